@@ -0,0 +1,14 @@
+package com.cobblemon.mod.common;
+
+import net.minecraft.world.entity.EntityType;
+
+/**
+ * Benchmark stub of the Cobblemon entity type holder.
+ */
+public final class CobblemonEntities {
+    
+    public static final EntityType<?> POKEMON = null;
+    
+    private CobblemonEntities() {
+    }
+}
@@ -0,0 +1,33 @@
+package com.cobblemon.mod.common.api.pokemon;
+
+import com.cobblemon.mod.common.pokemon.Species;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark stub of the Cobblemon species registry, with the members CobblemonBridge binds to.
+ */
+public final class PokemonSpecies {
+    
+    public static final PokemonSpecies INSTANCE = new PokemonSpecies();
+    
+    private final Map<String, Species> species = new HashMap<>();
+    
+    private PokemonSpecies() {
+    }
+    
+    /**
+     * Registers stub species under the given names.
+     */
+    public void register(List<String> names) {
+        for (String name : names) {
+            species.put(name, new Species(name));
+        }
+    }
+    
+    public Species getByName(String name) {
+        return species.get(name);
+    }
+}
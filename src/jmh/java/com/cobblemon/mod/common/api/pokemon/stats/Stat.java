@@ -0,0 +1,7 @@
+package com.cobblemon.mod.common.api.pokemon.stats;
+
+/**
+ * Benchmark stub of the Cobblemon stat type.
+ */
+public interface Stat {
+}
@@ -0,0 +1,15 @@
+package com.cobblemon.mod.common.api.pokemon.stats;
+
+/**
+ * Benchmark stub of the Cobblemon stat constants.
+ */
+public enum Stats implements Stat {
+    HP,
+    ATTACK,
+    DEFENCE,
+    SPECIAL_ATTACK,
+    SPECIAL_DEFENCE,
+    SPEED,
+    EVASION,
+    ACCURACY
+}
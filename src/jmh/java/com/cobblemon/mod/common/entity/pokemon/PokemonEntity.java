@@ -0,0 +1,17 @@
+package com.cobblemon.mod.common.entity.pokemon;
+
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+
+/**
+ * Benchmark stub of the Cobblemon Pokémon entity.
+ * Only the constructor signature matters: entities need a running level, so the
+ * benchmarks stop before entity creation and this constructor is never invoked.
+ */
+public class PokemonEntity {
+    
+    public PokemonEntity(Level level, Pokemon pokemon, EntityType<?> type) {
+        throw new UnsupportedOperationException("Entities cannot be created outside a running level");
+    }
+}
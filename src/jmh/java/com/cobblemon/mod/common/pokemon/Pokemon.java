@@ -0,0 +1,40 @@
+package com.cobblemon.mod.common.pokemon;
+
+import com.cobblemon.mod.common.api.pokemon.stats.Stat;
+import com.cobblemon.mod.common.api.pokemon.stats.Stats;
+
+/**
+ * Benchmark stub of a Cobblemon Pokémon instance.
+ */
+public final class Pokemon {
+    
+    private final Species species;
+    private final int level;
+    private final int[] ivs = new int[Stats.values().length];
+    private boolean shiny;
+    
+    public Pokemon(Species species, int level) {
+        this.species = species;
+        this.level = level;
+    }
+    
+    public Species getSpecies() {
+        return species;
+    }
+    
+    public int getLevel() {
+        return level;
+    }
+    
+    public boolean getShiny() {
+        return shiny;
+    }
+    
+    public void setShiny(boolean shiny) {
+        this.shiny = shiny;
+    }
+    
+    public void setIV(Stat stat, int value) {
+        ivs[((Stats) stat).ordinal()] = value;
+    }
+}
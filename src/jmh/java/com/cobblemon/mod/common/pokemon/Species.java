@@ -0,0 +1,21 @@
+package com.cobblemon.mod.common.pokemon;
+
+/**
+ * Benchmark stub of a Cobblemon species.
+ */
+public final class Species {
+    
+    private final String name;
+    
+    public Species(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Pokemon create(int level) {
+        return new Pokemon(this, level);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cobblemonorbs.benchmark;
+
+import com.cobblemonorbs.config.ConfigFileManager;
+import com.cobblemonorbs.config.ItemConfigSnapshot;
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.data.SpeciesCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item setting lookups. ConfigFileManager resolves its paths through FML when it is
+ * initialized, so the benchmark builds the ItemConfigSnapshot those lookups read from
+ * directly, with one config per catalog orb like a generated config folder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemConfigBenchmark {
+    
+    private ItemConfigSnapshot snapshot;
+    private String[] itemIds;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        SpeciesCatalog catalog = PokemonDataManager.getCatalog();
+        Map<String, ItemConfigSnapshot.ItemConfig> items = new HashMap<>();
+        itemIds = new String[catalog.size() + 1];
+        
+        for (int i = 0; i < catalog.size(); i++) {
+            String itemId = catalog.itemIdAt(i);
+            itemIds[i] = itemId;
+            items.put(itemId, new ItemConfigSnapshot.ItemConfig(true, i % 7 != 0,
+                new ConfigFileManager.ItemSpawnSettings(-1, -1.0, false, false), Map.of()));
+        }
+        // One item without a config file
+        itemIds[catalog.size()] = "random_orb";
+        
+        snapshot = ItemConfigSnapshot.of(items);
+    }
+    
+    private String next() {
+        String id = itemIds[cursor];
+        cursor = cursor + 1 == itemIds.length ? 0 : cursor + 1;
+        return id;
+    }
+    
+    @Benchmark
+    public boolean isItemCraftable() {
+        return snapshot.get(next()).craftable();
+    }
+    
+    @Benchmark
+    public ConfigFileManager.ItemSpawnSettings getItemSpawnSettings() {
+        return snapshot.get(next()).spawnSettings();
+    }
+}
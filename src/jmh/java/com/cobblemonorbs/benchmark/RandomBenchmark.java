@@ -0,0 +1,67 @@
+package com.cobblemonorbs.benchmark;
+
+import com.cobblemonorbs.item.api.SpawnSettings;
+import com.cobblemonorbs.util.OrbRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level and shiny rolls with OrbRandom against the single shared java.util.Random
+ * the spawn code used before. The threaded variants show the seed contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomBenchmark {
+    
+    private final Random sharedRandom = new Random();
+    private final SpawnSettings settings = SpawnSettings.DEFAULT;
+    
+    @Benchmark
+    public int levelOrbRandom() {
+        return settings.getRandomLevel(OrbRandom.current());
+    }
+    
+    @Benchmark
+    public int levelSharedRandom() {
+        return settings.getRandomLevel(sharedRandom);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int levelOrbRandomContended() {
+        return settings.getRandomLevel(OrbRandom.current());
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int levelSharedRandomContended() {
+        return settings.getRandomLevel(sharedRandom);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean shinyOrbRandomContended() {
+        return OrbRandom.current().nextDouble() < settings.shinyChance();
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean shinySharedRandomContended() {
+        return sharedRandom.nextDouble() < settings.shinyChance();
+    }
+}
@@ -0,0 +1,107 @@
+package com.cobblemonorbs.benchmark;
+
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies;
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.item.api.SpawnSettings;
+import com.cobblemonorbs.pokemon.CobblemonBridge;
+import com.cobblemonorbs.pokemon.SpawnPrototype;
+import com.cobblemonorbs.pokemon.SpeciesHandleCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Cobblemon part of the spawn path in PokemonSpawnHandler, run against the stub
+ * Cobblemon classes in this source set: species lookup, Pokémon creation, shiny flag and
+ * perfect IVs. Entity creation needs a running level and is not covered.
+ *
+ * prototype does the same work through a compiled SpawnPrototype for shiny, perfect-IV orbs.
+ * lookupByName and lookupCached compare the name lookup with the per-index species cache.
+ *
+ * The reflective variant repeats the per-call Class.forName/getMethod lookups the spawn
+ * path did before it was bound to cached method handles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpawnBridgeBenchmark {
+    
+    private String[] ids;
+    private SpawnPrototype ultimateShiny;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        PokemonSpecies.INSTANCE.register(PokemonDataManager.getAllSpecialPokemon());
+        CobblemonBridge.bind();
+        ids = PokemonDataManager.getAllSpecialPokemon().toArray(new String[0]);
+        ultimateShiny = SpawnPrototype.of(SpawnSettings.ULTIMATE_SHINY);
+    }
+    
+    private String next() {
+        String id = ids[cursor];
+        cursor = cursor + 1 == ids.length ? 0 : cursor + 1;
+        return id;
+    }
+    
+    @Benchmark
+    public Object bridge() {
+        Object species = CobblemonBridge.getSpecies(next());
+        Object pokemon = CobblemonBridge.createPokemon(species, 70);
+        CobblemonBridge.setShiny(pokemon, true);
+        CobblemonBridge.setPerfectIVs(pokemon);
+        return pokemon;
+    }
+    
+    @Benchmark
+    public Object prototype() {
+        Object species = SpeciesHandleCache.getSpecies(next());
+        return ultimateShiny.create(species, 70, true);
+    }
+    
+    @Benchmark
+    public Object lookupByName() {
+        return CobblemonBridge.getSpecies(next().toLowerCase(Locale.ROOT));
+    }
+    
+    @Benchmark
+    public Object lookupCached() {
+        return SpeciesHandleCache.getSpecies(next());
+    }
+    
+    @Benchmark
+    public Object reflective() throws Exception {
+        Class<?> pokemonSpeciesClass = Class.forName("com.cobblemon.mod.common.api.pokemon.PokemonSpecies");
+        Object speciesRegistry = pokemonSpeciesClass.getField("INSTANCE").get(null);
+        Method getByName = pokemonSpeciesClass.getMethod("getByName", String.class);
+        Object species = getByName.invoke(speciesRegistry, next());
+        
+        Method create = species.getClass().getMethod("create", int.class);
+        Object pokemon = create.invoke(species, 70);
+        
+        Method setShiny = pokemon.getClass().getMethod("setShiny", boolean.class);
+        setShiny.invoke(pokemon, true);
+        
+        Class<?> statsClass = Class.forName("com.cobblemon.mod.common.api.pokemon.stats.Stats");
+        Class<?> statClass = Class.forName("com.cobblemon.mod.common.api.pokemon.stats.Stat");
+        Method setIV = pokemon.getClass().getMethod("setIV", statClass, int.class);
+        for (String stat : new String[] {"HP", "ATTACK", "DEFENCE", "SPECIAL_ATTACK", "SPECIAL_DEFENCE", "SPEED"}) {
+            setIV.invoke(pokemon, statsClass.getField(stat).get(null), 31);
+        }
+        return pokemon;
+    }
+}
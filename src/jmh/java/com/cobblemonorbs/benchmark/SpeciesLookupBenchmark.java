@@ -0,0 +1,77 @@
+package com.cobblemonorbs.benchmark;
+
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.item.api.OrbCategory;
+import com.cobblemonorbs.util.OrbUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Species lookups done on every orb use and tooltip: category, display name and ID validation.
+ * Each invocation cycles through every catalog species plus a few unknown IDs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpeciesLookupBenchmark {
+    
+    private String[] ids;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        List<String> species = PokemonDataManager.getAllSpecialPokemon();
+        ids = new String[species.size() + 3];
+        for (int i = 0; i < species.size(); i++) {
+            ids[i] = species.get(i);
+        }
+        ids[species.size()] = "pikachu";
+        ids[species.size() + 1] = "Mewtwo";
+        ids[species.size() + 2] = "not-a-pokemon";
+    }
+    
+    private String next() {
+        String id = ids[cursor];
+        cursor = cursor + 1 == ids.length ? 0 : cursor + 1;
+        return id;
+    }
+    
+    @Benchmark
+    public OrbCategory getCategory() {
+        return PokemonDataManager.getCategory(next());
+    }
+    
+    @Benchmark
+    public boolean isLegendary() {
+        return PokemonDataManager.isLegendary(next());
+    }
+    
+    @Benchmark
+    public int getSpeciesIndex() {
+        return PokemonDataManager.getSpeciesIndex(next());
+    }
+    
+    @Benchmark
+    public String formatPokemonName() {
+        return OrbUtils.formatPokemonName(next());
+    }
+    
+    @Benchmark
+    public boolean isValidPokemonId() {
+        return OrbUtils.isValidPokemonId(next());
+    }
+}
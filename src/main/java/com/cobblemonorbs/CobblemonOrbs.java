@@ -3,9 +3,11 @@ package com.cobblemonorbs;
 import com.cobblemonorbs.config.ConfigFileManager;
 import com.cobblemonorbs.config.OrbConfig;
 import com.cobblemonorbs.config.RecipeConfigGenerator;
+import com.cobblemonorbs.pokemon.CobblemonBridge;
 import com.cobblemonorbs.registry.ModConditions;
 import com.cobblemonorbs.registry.ModCreativeTabs;
 import com.cobblemonorbs.registry.ModItems;
+import com.cobblemonorbs.util.OrbRandom;
 import com.mojang.logging.LogUtils;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
@@ -95,5 +97,11 @@ public class CobblemonOrbs {
     @net.neoforged.bus.api.SubscribeEvent
     public void onServerStarting(ServerStartingEvent event) {
         LOGGER.info("Cobblemon Legendary Orbs server starting!");
+        
+        // Resolve the Cobblemon API once so orb uses never do reflective lookups
+        CobblemonBridge.bind();
+        
+        // Start seeded orb rolls from the beginning of their sequence
+        OrbRandom.reset(OrbConfig.RANDOM_SEED.get());
     }
 }
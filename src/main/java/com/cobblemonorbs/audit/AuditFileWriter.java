@@ -0,0 +1,68 @@
+package com.cobblemonorbs.audit;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends audit records to spawn-audit.ndjson, one JSON object per line.
+ * When the file reaches the size limit it is renamed to spawn-audit.1.ndjson, older
+ * files move up by one and the oldest beyond the file limit is deleted.
+ *
+ * Only used from the audit writer thread.
+ */
+class AuditFileWriter {
+    
+    private static final Gson GSON = new Gson();
+    private static final String BASE_NAME = "spawn-audit";
+    
+    private final Path dir;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    
+    AuditFileWriter(Path dir, long maxFileBytes, int maxFiles) {
+        this.dir = dir;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+    
+    /**
+     * Appends a batch of records, rotating first if the current file is full.
+     */
+    void write(List<SpawnAuditRecord> records) throws IOException {
+        Files.createDirectories(dir);
+        Path current = file(0);
+        if (Files.exists(current) && Files.size(current) >= maxFileBytes) {
+            rotate();
+        }
+        
+        try (BufferedWriter writer = Files.newBufferedWriter(current, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (SpawnAuditRecord record : records) {
+                writer.write(GSON.toJson(record.toJson()));
+                writer.newLine();
+            }
+        }
+    }
+    
+    private void rotate() throws IOException {
+        Files.deleteIfExists(file(maxFiles));
+        for (int i = maxFiles - 1; i >= 0; i--) {
+            Path source = file(i);
+            if (Files.exists(source)) {
+                Files.move(source, file(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+    
+    private Path file(int index) {
+        return dir.resolve(index == 0 ? BASE_NAME + ".ndjson" : BASE_NAME + "." + index + ".ndjson");
+    }
+}
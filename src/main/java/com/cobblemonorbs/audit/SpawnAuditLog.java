@@ -0,0 +1,261 @@
+package com.cobblemonorbs.audit;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.OrbConfig;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.event.config.ModConfigEvent;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of orb spawns: who spawned which Pokémon, when and where.
+ *
+ * The server thread writes each spawn as a fixed-size record of longs into a ring buffer,
+ * plus the species ID string it already has, without locks, allocation or string formatting.
+ * A background thread flushes new records to rotating NDJSON files in logs/cobblemonorbs/
+ * about once a second. If the writer falls a whole ring behind, the oldest unwritten records
+ * are skipped and counted as dropped. The writer runs while auditLog is enabled, including
+ * when it is switched on or off while the server runs.
+ *
+ * {@link #record} and {@link #recent} must be called from the server thread.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class SpawnAuditLog {
+    
+    // Records kept in memory; a power of two
+    private static final int CAPACITY = 4096;
+    private static final int MASK = CAPACITY - 1;
+    
+    // Record layout: time, player UUID (2), packed level/dimension/flags, x, y, z
+    private static final int FIELDS = 7;
+    private static final long SHINY_FLAG = 1L << 48;
+    private static final long PERFECT_IVS_FLAG = 1L << 49;
+    
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private static final long[] RING = new long[CAPACITY * FIELDS];
+    // Species ID of each record, kept as given so later catalog reloads cannot change it
+    private static final String[] SPECIES = new String[CAPACITY];
+    // Dimensions by index, appended to by the server thread
+    private static final List<ResourceKey<Level>> DIMENSIONS = new CopyOnWriteArrayList<>();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    
+    // Number of records written; the volatile write publishes the slots to the writer thread
+    private static volatile long published;
+    // Number of records flushed to disk, only touched by the writer thread
+    private static long flushed;
+    
+    private static volatile boolean running;
+    // Started and stopped from the server thread and the config reload thread
+    private static Thread writerThread;
+    
+    private SpawnAuditLog() {
+    }
+    
+    /**
+     * Records a spawn. Overwrites the oldest record once the ring is full.
+     */
+    public static void record(UUID playerId, String pokemonId, int level, boolean shiny, boolean perfectIVs,
+            ResourceKey<Level> dimension, Vec3 position) {
+        long sequence = published;
+        int base = (int) (sequence & MASK) * FIELDS;
+        
+        long packed = (level & 0xFFFFL) << 16
+            | (dimensionIndex(dimension) & 0xFFFFL) << 32;
+        if (shiny) {
+            packed |= SHINY_FLAG;
+        }
+        if (perfectIVs) {
+            packed |= PERFECT_IVS_FLAG;
+        }
+        
+        RING[base] = System.currentTimeMillis();
+        RING[base + 1] = playerId.getMostSignificantBits();
+        RING[base + 2] = playerId.getLeastSignificantBits();
+        RING[base + 3] = packed;
+        RING[base + 4] = Double.doubleToRawLongBits(position.x);
+        RING[base + 5] = Double.doubleToRawLongBits(position.y);
+        RING[base + 6] = Double.doubleToRawLongBits(position.z);
+        SPECIES[(int) (sequence & MASK)] = pokemonId;
+        
+        published = sequence + 1;
+    }
+    
+    /**
+     * Get up to count of the most recent spawns, newest first. Reads memory only.
+     */
+    public static List<SpawnAuditRecord> recent(int count) {
+        long end = published;
+        long start = Math.max(0, end - Math.min(count, CAPACITY));
+        
+        List<SpawnAuditRecord> records = new ArrayList<>((int) (end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            records.add(read(sequence));
+        }
+        return records;
+    }
+    
+    /**
+     * Get the number of records that were overwritten before the writer could flush them.
+     */
+    public static long getDropped() {
+        return DROPPED.get();
+    }
+    
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        if (OrbConfig.AUDIT_LOG.get()) {
+            startWriter();
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        stopWriter();
+    }
+    
+    /**
+     * Starts or stops the writer when auditLog is changed while the server runs.
+     */
+    @EventBusSubscriber(modid = CobblemonOrbs.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+    public static final class ConfigListener {
+        
+        private ConfigListener() {
+        }
+        
+        @SubscribeEvent
+        public static void onConfigReloading(ModConfigEvent.Reloading event) {
+            if (event.getConfig().getSpec() != OrbConfig.SPEC || ServerLifecycleHooks.getCurrentServer() == null) {
+                return;
+            }
+            
+            if (OrbConfig.AUDIT_LOG.get()) {
+                startWriter();
+            } else {
+                stopWriter();
+            }
+        }
+    }
+    
+    private static synchronized void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+        
+        AuditFileWriter writer = new AuditFileWriter(
+            FMLPaths.GAMEDIR.get().resolve("logs").resolve(CobblemonOrbs.MOD_ID),
+            OrbConfig.AUDIT_MAX_FILE_SIZE_MB.get() * 1024L * 1024L,
+            OrbConfig.AUDIT_MAX_FILES.get());
+        
+        running = true;
+        writerThread = new Thread(() -> runWriter(writer), "CobblemonOrbs Audit Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+    
+    private static synchronized void stopWriter() {
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        
+        // The writer flushes what is left before it exits
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+    
+    private static void runWriter(AuditFileWriter writer) {
+        while (running) {
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+            flush(writer);
+        }
+        flush(writer);
+    }
+    
+    /**
+     * Writes every record published since the last flush.
+     */
+    private static void flush(AuditFileWriter writer) {
+        long end = published;
+        long start = flushed;
+        if (end - start > CAPACITY) {
+            DROPPED.addAndGet(end - start - CAPACITY);
+            start = end - CAPACITY;
+        }
+        if (start == end) {
+            return;
+        }
+        
+        List<SpawnAuditRecord> batch = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            batch.add(read(sequence));
+        }
+        
+        // Orders the copy before the re-read of published, like a seqlock reader
+        VarHandle.loadFence();
+        
+        // Records the server thread overwrote while they were being copied are torn, skip them.
+        // The slot of the record being written now is overwritten before published moves, so it counts too.
+        long overwritten = published - CAPACITY + 1 - start;
+        if (overwritten > 0) {
+            int skip = (int) Math.min(overwritten, batch.size());
+            DROPPED.addAndGet(skip);
+            batch = batch.subList(skip, batch.size());
+        }
+        flushed = end;
+        
+        try {
+            writer.write(batch);
+        } catch (Exception e) {
+            CobblemonOrbs.LOGGER.error("Failed to write {} spawn audit records", batch.size(), e);
+        }
+    }
+    
+    private static SpawnAuditRecord read(long sequence) {
+        int base = (int) (sequence & MASK) * FIELDS;
+        long packed = RING[base + 3];
+        
+        int dimensionIndex = (int) (packed >>> 32 & 0xFFFF);
+        return new SpawnAuditRecord(
+            RING[base],
+            new UUID(RING[base + 1], RING[base + 2]),
+            SPECIES[(int) (sequence & MASK)],
+            (int) (packed >>> 16 & 0xFFFF),
+            (packed & SHINY_FLAG) != 0,
+            (packed & PERFECT_IVS_FLAG) != 0,
+            dimensionIndex < DIMENSIONS.size() ? DIMENSIONS.get(dimensionIndex) : null,
+            Double.longBitsToDouble(RING[base + 4]),
+            Double.longBitsToDouble(RING[base + 5]),
+            Double.longBitsToDouble(RING[base + 6]));
+    }
+    
+    private static int dimensionIndex(ResourceKey<Level> dimension) {
+        int index = DIMENSIONS.indexOf(dimension);
+        if (index < 0) {
+            DIMENSIONS.add(dimension);
+            index = DIMENSIONS.size() - 1;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,37 @@
+package com.cobblemonorbs.audit;
+
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One spawn read back from the {@link SpawnAuditLog} ring buffer.
+ *
+ * @param speciesId The species ID as it was spawned
+ * @param dimension The dimension, or null if it is not known
+ */
+public record SpawnAuditRecord(long timestampMillis, UUID playerId, String speciesId, int level,
+                               boolean shiny, boolean perfectIVs, ResourceKey<Level> dimension,
+                               double x, double y, double z) {
+    
+    /**
+     * Converts the record to one line of NDJSON.
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("time", Instant.ofEpochMilli(timestampMillis).toString());
+        json.addProperty("player", playerId.toString());
+        json.addProperty("species", speciesId());
+        json.addProperty("level", level);
+        json.addProperty("shiny", shiny);
+        json.addProperty("perfectIVs", perfectIVs);
+        json.addProperty("dimension", dimension != null ? dimension.location().toString() : "unknown");
+        json.addProperty("x", Math.round(x * 10) / 10.0);
+        json.addProperty("y", Math.round(y * 10) / 10.0);
+        json.addProperty("z", Math.round(z * 10) / 10.0);
+        return json;
+    }
+}
@@ -1,22 +1,51 @@
 package com.cobblemonorbs.command;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.audit.SpawnAuditLog;
+import com.cobblemonorbs.audit.SpawnAuditRecord;
 import com.cobblemonorbs.config.ConfigFileManager;
+import com.cobblemonorbs.config.RecipeOverrides;
+import com.cobblemonorbs.item.base.BaseOrbItem;
+import com.cobblemonorbs.metrics.LatencyHistogram;
+import com.cobblemonorbs.metrics.OrbMetrics;
+import com.cobblemonorbs.metrics.SpawnOutcome;
+import com.cobblemonorbs.pokemon.SpawnQueue;
+import com.cobblemonorbs.util.OrbUtils;
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Commands for managing Cobblemon Orbs configuration.
  */
 @EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
 public class OrbCommands {
     
+    private static final DateTimeFormatter AUDIT_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss")
+        .withZone(ZoneId.systemDefault());
+    
     @SubscribeEvent
     public static void onRegisterCommands(RegisterCommandsEvent event) {
         CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
@@ -27,11 +56,35 @@ public class OrbCommands {
                 .executes(OrbCommands::reloadConfig))
             .then(Commands.literal("info")
                 .executes(OrbCommands::showInfo))
+            .then(Commands.literal("stats")
+                .executes(OrbCommands::showStats)
+                .then(Commands.literal("reset")
+                    .executes(OrbCommands::resetStats)))
+            .then(Commands.literal("audit")
+                .executes(context -> showAudit(context, 10))
+                .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                    .executes(context -> showAudit(context, IntegerArgumentType.getInteger(context, "count")))))
+            .then(Commands.literal("bench")
+                .then(Commands.argument("orb", StringArgumentType.word())
+                    .suggests((context, builder) -> SharedSuggestionProvider.suggest(orbIds(), builder))
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, 10000))
+                        .executes(context -> startBench(context, 1, true))
+                        .then(Commands.argument("perTick", IntegerArgumentType.integer(1, 1000))
+                            .executes(context -> startBench(context, IntegerArgumentType.getInteger(context, "perTick"), true))
+                            .then(Commands.argument("despawn", BoolArgumentType.bool())
+                                .executes(context -> startBench(context, IntegerArgumentType.getInteger(context, "perTick"),
+                                    BoolArgumentType.getBool(context, "despawn"))))))))
+            .then(Commands.literal("config")
+                .then(Commands.literal("pack")
+                    .executes(OrbCommands::packConfig))
+                .then(Commands.literal("unpack")
+                    .executes(OrbCommands::unpackConfig)))
         );
     }
     
     private static int reloadConfig(CommandContext<CommandSourceStack> context) {
         ConfigFileManager.reload();
+        RecipeOverrides.reapply(context.getSource().getServer());
         context.getSource().sendSuccess(
             () -> Component.literal("§a[Cobblemon Orbs] Configuration reloaded!"),
             true
@@ -41,6 +94,36 @@ public class OrbCommands {
         return 1;
     }
     
+    private static int packConfig(CommandContext<CommandSourceStack> context) {
+        try {
+            int count = ConfigFileManager.packConfigs();
+            context.getSource().sendSuccess(
+                () -> Component.literal("§a[Cobblemon Orbs] Packed " + count + " entries into items.json and recipes.json"),
+                true
+            );
+            return count;
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to pack config files", e);
+            context.getSource().sendFailure(Component.literal("§c[Cobblemon Orbs] Failed to pack config: " + e.getMessage()));
+            return 0;
+        }
+    }
+    
+    private static int unpackConfig(CommandContext<CommandSourceStack> context) {
+        try {
+            int count = ConfigFileManager.unpackConfigs();
+            context.getSource().sendSuccess(
+                () -> Component.literal("§a[Cobblemon Orbs] Unpacked " + count + " entries into /items/ and /recipes/"),
+                true
+            );
+            return count;
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to unpack config files", e);
+            context.getSource().sendFailure(Component.literal("§c[Cobblemon Orbs] Failed to unpack config: " + e.getMessage()));
+            return 0;
+        }
+    }
+    
     private static int showInfo(CommandContext<CommandSourceStack> context) {
         context.getSource().sendSuccess(
             () -> Component.literal("§6[Cobblemon Orbs] Config Location:§r " + 
@@ -57,4 +140,115 @@ public class OrbCommands {
         );
         return 1;
     }
+    
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        long uptimeSeconds = OrbMetrics.getUptimeMillis() / 1000;
+        send(source, "§6[Cobblemon Orbs] Stats§r (last " + (uptimeSeconds / 60) + "m " + (uptimeSeconds % 60) + "s)");
+        
+        // Orb uses, most used first
+        Map<String, Long> uses = OrbMetrics.getUsesByItem();
+        long totalUses = uses.values().stream().mapToLong(Long::longValue).sum();
+        StringBuilder topItems = new StringBuilder();
+        uses.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(5)
+            .forEach(entry -> topItems.append(topItems.isEmpty() ? "" : ", ")
+                .append(entry.getKey()).append(' ').append(entry.getValue()));
+        send(source, "§eUses:§r " + totalUses + (topItems.isEmpty() ? "" : " (" + topItems + ")"));
+        
+        // Outcomes, only the ones that happened
+        StringBuilder outcomes = new StringBuilder();
+        for (SpawnOutcome outcome : SpawnOutcome.values()) {
+            long count = OrbMetrics.getOutcomeCount(outcome);
+            if (count > 0) {
+                outcomes.append(outcomes.isEmpty() ? "" : ", ").append(outcome.getDisplayName()).append(' ').append(count);
+            }
+        }
+        send(source, "§eOutcomes:§r " + (outcomes.isEmpty() ? "none" : outcomes));
+        
+        send(source, "§eSpawn time:§r " + formatHistogram(OrbMetrics.SPAWN_TIME));
+        send(source, "§eQueue wait:§r " + formatHistogram(OrbMetrics.QUEUE_WAIT) + ", pending " + SpawnQueue.size());
+        send(source, "§eConfig reloads:§r " + formatHistogram(OrbMetrics.CONFIG_RELOAD));
+        send(source, "§eRecipe condition checks:§r " + OrbMetrics.getConditionEvaluations());
+        return 1;
+    }
+    
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        OrbMetrics.reset();
+        context.getSource().sendSuccess(
+            () -> Component.literal("§a[Cobblemon Orbs] Stats reset"),
+            true
+        );
+        return 1;
+    }
+    
+    private static int showAudit(CommandContext<CommandSourceStack> context, int count) {
+        CommandSourceStack source = context.getSource();
+        List<SpawnAuditRecord> records = SpawnAuditLog.recent(count);
+        send(source, "§6[Cobblemon Orbs] Last " + records.size() + " spawns§r"
+            + (SpawnAuditLog.getDropped() > 0 ? " (" + SpawnAuditLog.getDropped() + " dropped from the audit file)" : ""));
+        
+        for (SpawnAuditRecord record : records) {
+            ServerPlayer player = source.getServer().getPlayerList().getPlayer(record.playerId());
+            String playerName = player != null ? player.getName().getString() : record.playerId().toString();
+            String dimension = record.dimension() != null ? record.dimension().location().toString() : "unknown";
+            send(source, String.format(Locale.ROOT, "§7%s §e%s §f%s Lv. %d%s §7%s %.0f %.0f %.0f",
+                AUDIT_TIME_FORMAT.format(Instant.ofEpochMilli(record.timestampMillis())), playerName,
+                OrbUtils.formatPokemonName(record.speciesId()), record.level(), record.shiny() ? " §6★" : "",
+                dimension, record.x(), record.y(), record.z()));
+        }
+        return records.size();
+    }
+    
+    private static int startBench(CommandContext<CommandSourceStack> context, int perTick, boolean despawn) {
+        String orbId = StringArgumentType.getString(context, "orb");
+        int count = IntegerArgumentType.getInteger(context, "count");
+        
+        Item item = BuiltInRegistries.ITEM.get(ResourceLocation.fromNamespaceAndPath(CobblemonOrbs.MOD_ID, orbId));
+        if (!(item instanceof BaseOrbItem orb)) {
+            context.getSource().sendFailure(Component.literal("§c[Cobblemon Orbs] Unknown orb: " + orbId));
+            return 0;
+        }
+        
+        if (!SpawnLoadTest.start(context.getSource(), orb, orbId, count, perTick, despawn)) {
+            context.getSource().sendFailure(Component.literal("§c[Cobblemon Orbs] A load test is already running"));
+            return 0;
+        }
+        
+        context.getSource().sendSuccess(
+            () -> Component.literal("§a[Cobblemon Orbs] Load test started: " + count + " x " + orbId + ", " + perTick + " per tick"),
+            true
+        );
+        CobblemonOrbs.LOGGER.info("Load test of {} x {} started by {}", count, orbId, context.getSource().getTextName());
+        return 1;
+    }
+    
+    private static List<String> orbIds() {
+        List<String> ids = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (item instanceof BaseOrbItem) {
+                ids.add(BuiltInRegistries.ITEM.getKey(item).getPath());
+            }
+        }
+        return ids;
+    }
+    
+    static String formatHistogram(LatencyHistogram histogram) {
+        long count = histogram.count();
+        if (count == 0) {
+            return "no samples";
+        }
+        return String.format(Locale.ROOT, "n=%d mean %s p50 %s p99 %s max %s", count,
+            formatNanos(histogram.meanNanos()), formatNanos(histogram.percentileNanos(50)),
+            formatNanos(histogram.percentileNanos(99)), formatNanos(histogram.maxNanos()));
+    }
+    
+    static String formatNanos(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+    
+    private static void send(CommandSourceStack source, String message) {
+        source.sendSuccess(() -> Component.literal(message), false);
+    }
 }
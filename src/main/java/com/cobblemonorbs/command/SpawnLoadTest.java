@@ -0,0 +1,207 @@
+package com.cobblemonorbs.command;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.item.base.BaseOrbItem;
+import com.cobblemonorbs.metrics.LatencyHistogram;
+import com.cobblemonorbs.metrics.SpawnOutcome;
+import com.cobblemonorbs.pokemon.PokemonSpawnHandler;
+import com.cobblemonorbs.pokemon.SpawnQueue;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.common.util.FakePlayer;
+import net.neoforged.neoforge.common.util.FakePlayerFactory;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Load test behind /cobblemonorbs bench: uses an orb a number of times through the real
+ * {@link BaseOrbItem#onOrbUse} and {@link SpawnQueue} path and reports spawn throughput,
+ * spawn and entity-add latency and the server's tick time while it runs.
+ *
+ * Tick time is measured from the first tick start handler to the last tick end handler,
+ * because the queue drains at tick end, after vanilla has already recorded its tick time.
+ *
+ * Orbs are used by a fake player standing where the command was run (or at world spawn
+ * from the console), so it works on a dedicated server with nobody online.
+ * Only one load test runs at a time, on the server thread.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class SpawnLoadTest implements SpawnQueue.SpawnListener {
+    
+    // Ticks between progress messages
+    private static final int REPORT_INTERVAL_TICKS = 20;
+    // Ticks to wait for queued spawns after the last orb use
+    private static final int DRAIN_TIMEOUT_TICKS = 20 * 60;
+    
+    private static SpawnLoadTest active;
+    
+    private final CommandSourceStack source;
+    private final ServerLevel level;
+    private final FakePlayer player;
+    private final BaseOrbItem orb;
+    private final String orbId;
+    private final int count;
+    private final int perTick;
+    private final boolean despawn;
+    private final long baselineTickNanos;
+    
+    private final LatencyHistogram spawnTime = new LatencyHistogram();
+    private final LatencyHistogram addTime = new LatencyHistogram();
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+    private final List<Entity> entities = new ArrayList<>();
+    
+    private int used;
+    private int rejected;
+    private int completed;
+    private int succeeded;
+    private int ticks;
+    private int drainTicks;
+    private long startNanos;
+    private long tickStartNanos;
+    
+    private SpawnLoadTest(CommandSourceStack source, ServerLevel level, FakePlayer player, BaseOrbItem orb,
+            String orbId, int count, int perTick, boolean despawn) {
+        this.source = source;
+        this.level = level;
+        this.player = player;
+        this.orb = orb;
+        this.orbId = orbId;
+        this.count = count;
+        this.perTick = perTick;
+        this.despawn = despawn;
+        this.baselineTickNanos = source.getServer().getAverageTickTimeNanos();
+    }
+    
+    /**
+     * Starts a load test from the next tick.
+     *
+     * @return false if a load test is already running
+     */
+    public static boolean start(CommandSourceStack source, BaseOrbItem orb, String orbId, int count, int perTick,
+            boolean despawn) {
+        if (active != null) {
+            return false;
+        }
+        
+        ServerLevel level = source.getLevel();
+        FakePlayer player = FakePlayerFactory.getMinecraft(level);
+        Vec3 position = source.getEntity() != null ? source.getPosition() : Vec3.atBottomCenterOf(level.getSharedSpawnPos());
+        player.moveTo(position.x, position.y, position.z);
+        
+        active = new SpawnLoadTest(source, level, player, orb, orbId, count, perTick, despawn);
+        SpawnQueue.setListener(active);
+        return true;
+    }
+    
+    @Override
+    public void onSpawnComplete(Player spawnPlayer, PokemonSpawnHandler.PreparedSpawn prepared, SpawnOutcome outcome,
+            long workNanos, long addNanos) {
+        if (spawnPlayer != player) {
+            return;
+        }
+        
+        completed++;
+        if (outcome.isSuccess()) {
+            succeeded++;
+            spawnTime.record(workNanos);
+            addTime.record(addNanos);
+            if (despawn) {
+                entities.add(prepared.entity());
+            }
+        }
+    }
+    
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onServerTickStart(ServerTickEvent.Pre event) {
+        if (active != null) {
+            active.tickStartNanos = System.nanoTime();
+            active.tick();
+        }
+    }
+    
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onServerTickEnd(ServerTickEvent.Post event) {
+        if (active != null) {
+            active.tickTime.record(System.nanoTime() - active.tickStartNanos);
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        active = null;
+        SpawnQueue.setListener(null);
+    }
+    
+    private void tick() {
+        if (ticks == 0) {
+            startNanos = tickStartNanos;
+        }
+        ticks++;
+        
+        for (int i = 0; i < perTick && used + rejected < count; i++) {
+            if (orb.onOrbUse(level, player, new ItemStack(orb))) {
+                used++;
+            } else {
+                rejected++;
+            }
+        }
+        
+        if (used + rejected == count) {
+            if (completed >= used || ++drainTicks > DRAIN_TIMEOUT_TICKS) {
+                finish();
+                return;
+            }
+        }
+        
+        if (ticks % REPORT_INTERVAL_TICKS == 0) {
+            send(String.format(Locale.ROOT, "§7Load test: %d/%d used, %d spawned, MSPT %s",
+                used + rejected, count, succeeded, OrbCommands.formatNanos(tickTime.meanNanos())));
+        }
+    }
+    
+    private void finish() {
+        // Spawns still queued after the drain timeout would land after the report and never be despawned
+        int cancelled = SpawnQueue.cancel(player);
+        active = null;
+        SpawnQueue.setListener(null);
+        
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        send("§6[Cobblemon Orbs] Load test of " + orbId + " finished§r in " + ticks + " ticks ("
+            + String.format(Locale.ROOT, "%.1fs", seconds) + ")");
+        send(String.format(Locale.ROOT, "§eSpawned:§r %d of %d (%d rejected on use, %d failed, %d cancelled)",
+            succeeded, count, rejected, completed - succeeded - cancelled, cancelled));
+        send(String.format(Locale.ROOT, "§eThroughput:§r %.1f spawns/s, %.2f per tick",
+            seconds > 0 ? succeeded / seconds : 0, (double) succeeded / ticks));
+        send("§eSpawn time:§r " + OrbCommands.formatHistogram(spawnTime));
+        send("§eEntity add:§r " + OrbCommands.formatHistogram(addTime));
+        send("§eMSPT:§r vanilla baseline " + OrbCommands.formatNanos(baselineTickNanos) + ", during test "
+            + OrbCommands.formatHistogram(tickTime));
+        
+        if (despawn) {
+            int removed = 0;
+            for (Entity entity : entities) {
+                if (!entity.isRemoved()) {
+                    entity.discard();
+                    removed++;
+                }
+            }
+            send("§eDespawned:§r " + removed + " Pokémon");
+        }
+    }
+    
+    private void send(String message) {
+        source.sendSuccess(() -> Component.literal(message), false);
+    }
+}
@@ -0,0 +1,159 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a folder of JSON config files in parallel.
+ * Files are split into batches that are read and parsed on a small, bounded pool,
+ * so startup does not pay for hundreds of small sequential reads.
+ */
+public final class ConfigDirectoryLoader {
+    
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int BATCH_SIZE = 16;
+    
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, new DaemonThreadFactory());
+    
+    private ConfigDirectoryLoader() {
+    }
+    
+    /**
+     * Parses one config entry, either a whole file or one value of a consolidated file.
+     * Invalid values are reported to the source and replaced by their defaults;
+     * returning null leaves the entry out.
+     */
+    @FunctionalInterface
+    public interface EntryParser<T> {
+        T parse(String name, JsonReader reader, ConfigReport.Source problems) throws IOException;
+    }
+    
+    /**
+     * Result of loading a config source, with the problems found and the time spent in each phase.
+     */
+    public record LoadResult<T>(Map<String, T> entries, ConfigReport report, long listNanos, long parseNanos) {
+        
+        public long listMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(listNanos);
+        }
+        
+        public long parseMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(parseNanos);
+        }
+    }
+    
+    /**
+     * Reads and parses every *.json file in the folder.
+     * The entry key is the file name without extension. Files that fail to parse
+     * are reported and left out of the result.
+     *
+     * @param dir The folder to load
+     * @param kind Short description used in log messages (e.g. "recipe config")
+     * @param parser Parser applied to each file
+     */
+    public static <T> LoadResult<T> load(Path dir, String kind, EntryParser<T> parser) {
+        long start = System.nanoTime();
+        ConfigReport report = new ConfigReport(kind);
+        
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.json")) {
+                for (Path file : stream) {
+                    files.add(file);
+                }
+            } catch (IOException e) {
+                CobblemonOrbs.LOGGER.error("Failed to list {} files in {}", kind, dir, e);
+            }
+        }
+        
+        long listed = System.nanoTime();
+        
+        List<Callable<Map<String, T>>> batches = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += BATCH_SIZE) {
+            List<Path> batch = files.subList(i, Math.min(i + BATCH_SIZE, files.size()));
+            batches.add(() -> parseBatch(batch, parser, report));
+        }
+        
+        Map<String, T> entries = new HashMap<>();
+        try {
+            for (Future<Map<String, T>> future : EXECUTOR.invokeAll(batches)) {
+                entries.putAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CobblemonOrbs.LOGGER.error("Interrupted while loading {} files", kind, e);
+        } catch (ExecutionException e) {
+            CobblemonOrbs.LOGGER.error("Failed to load {} files", kind, e.getCause());
+        }
+        
+        long parsed = System.nanoTime();
+        
+        return new LoadResult<>(Map.copyOf(entries), report, listed - start, parsed - listed);
+    }
+    
+    /**
+     * Reads and parses a single config file on the calling thread.
+     *
+     * @return The parsed entry, or null if the file could not be read or parsed
+     */
+    public static <T> T loadFile(Path file, EntryParser<T> parser, ConfigReport report) {
+        ConfigReport.Source source = report.source(file.getParent().getFileName() + "/" + file.getFileName());
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.setLenient(true);
+            return parser.parse(entryName(file), reader, source);
+        } catch (Exception e) {
+            source.failed(e);
+            return null;
+        }
+    }
+    
+    /**
+     * Get the entry key for a config file: its file name without extension.
+     */
+    public static String entryName(Path file) {
+        return file.getFileName().toString().replace(".json", "");
+    }
+    
+    private static <T> Map<String, T> parseBatch(List<Path> batch, EntryParser<T> parser, ConfigReport report) {
+        Map<String, T> results = new HashMap<>();
+        for (Path file : batch) {
+            T value = loadFile(file, parser, report);
+            if (value != null) {
+                results.put(entryName(file), value);
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Daemon threads so a pending load never keeps the JVM alive.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "CobblemonOrbs-Config-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
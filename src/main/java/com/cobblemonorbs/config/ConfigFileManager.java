@@ -1,15 +1,18 @@
 package com.cobblemonorbs.config;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.metrics.ConfigLoadEvent;
+import com.cobblemonorbs.metrics.OrbMetrics;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import net.neoforged.fml.loading.FMLPaths;
 
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages configuration files for recipes and items.
@@ -22,9 +25,18 @@ public class ConfigFileManager {
     private static final Path RECIPES_DIR = CONFIG_DIR.resolve("recipes");
     private static final Path ITEMS_DIR = CONFIG_DIR.resolve("items");
     
-    // Cache of disabled recipes
-    private static final Set<String> DISABLED_RECIPES = new HashSet<>();
-    private static final Map<String, JsonObject> CUSTOM_RECIPES = new HashMap<>();
+    // Optional consolidated layout; takes precedence over the folders when present
+    private static final Path ITEMS_FILE = CONFIG_DIR.resolve("items.json");
+    private static final Path RECIPES_FILE = CONFIG_DIR.resolve("recipes.json");
+    
+    // Parsed recipe configs by recipe name, replaced as a whole on reload
+    private static volatile Map<String, RecipeConfig> recipeConfigs = Map.of();
+    
+    // Parsed item configs, replaced as a whole on reload
+    private static volatile ItemConfigSnapshot itemConfigs = ItemConfigSnapshot.EMPTY;
+    
+    // Incremented every time recipe or item configs are published
+    private static final AtomicLong GENERATION = new AtomicLong();
     
     /**
      * Initialize config directories and files.
@@ -41,7 +53,10 @@ public class ConfigFileManager {
             createReadme();
             
             // Load existing configs
+            long start = System.nanoTime();
             loadRecipeConfigs();
+            loadItemConfigs();
+            OrbMetrics.CONFIG_RELOAD.record(System.nanoTime() - start);
             
             CobblemonOrbs.LOGGER.info("Config file manager initialized at: {}", CONFIG_DIR);
         } catch (IOException e) {
@@ -79,130 +94,112 @@ public class ConfigFileManager {
     
     /**
      * Generate item config files for enabling/disabling items and customizing properties.
+     * Only new or still unedited defaults are written, see {@link DefaultConfigExporter}.
      */
     public static void generateItemConfigs(List<String> itemIds) {
+        // Missing entries in a consolidated file already fall back to defaults
+        if (Files.exists(ITEMS_FILE)) {
+            return;
+        }
+        
+        List<DefaultConfigExporter.Default> defaults = new ArrayList<>();
         for (String itemId : itemIds) {
-            Path itemFile = ITEMS_DIR.resolve(itemId + ".json");
-            
-            if (!Files.exists(itemFile)) {
-                try {
-                    JsonObject itemConfig = new JsonObject();
-                    itemConfig.addProperty("_comment", "Configuration for " + itemId);
-                    itemConfig.addProperty("enabled", true);
-                    itemConfig.addProperty("craftable", true);
-                    
-                    // Add spawn settings for orbs
-                    if (itemId.endsWith("_orb")) {
-                        JsonObject spawnSettings = new JsonObject();
-                        spawnSettings.addProperty("_comment", "Leave as -1 to use global defaults");
-                        spawnSettings.addProperty("level", -1);
-                        spawnSettings.addProperty("shinyChance", -1.0);
-                        spawnSettings.addProperty("guaranteeShiny", false);
-                        spawnSettings.addProperty("perfectIVs", false);
-                        itemConfig.add("spawnSettings", spawnSettings);
-                    }
-                    
-                    Files.writeString(itemFile, GSON.toJson(itemConfig));
-                    CobblemonOrbs.LOGGER.debug("Created item config: {}", itemId);
-                } catch (IOException e) {
-                    CobblemonOrbs.LOGGER.error("Failed to create item config: {}", itemId, e);
-                }
-            }
+            defaults.add(new DefaultConfigExporter.Default(itemId, () -> GSON.toJson(createDefaultItemConfig(itemId))));
         }
+        
+        DefaultConfigExporter.Result result = DefaultConfigExporter.export(ITEMS_DIR.getFileName().toString(), defaults);
+        if (!result.upToDate() || result.changed()) {
+            CobblemonOrbs.LOGGER.info("Item config export complete: {} created, {} updated, {} kept",
+                result.written(), result.updated(), result.kept());
+        }
+        
+        // Pick up the freshly written defaults
+        if (result.changed()) {
+            loadItemConfigs();
+        }
+    }
+    
+    private static JsonObject createDefaultItemConfig(String itemId) {
+        JsonObject itemConfig = new JsonObject();
+        itemConfig.addProperty("_comment", "Configuration for " + itemId);
+        itemConfig.addProperty("enabled", true);
+        itemConfig.addProperty("craftable", true);
+        
+        // Add spawn settings for orbs
+        if (itemId.endsWith("_orb")) {
+            JsonObject spawnSettings = new JsonObject();
+            spawnSettings.addProperty("_comment", "Leave as -1 to use global defaults");
+            spawnSettings.addProperty("level", -1);
+            spawnSettings.addProperty("shinyChance", -1.0);
+            spawnSettings.addProperty("guaranteeShiny", false);
+            spawnSettings.addProperty("perfectIVs", false);
+            itemConfig.add("spawnSettings", spawnSettings);
+        }
+        return itemConfig;
     }
     
     /**
      * Load recipe configurations and determine which are disabled.
      */
-    private static void loadRecipeConfigs() {
-        DISABLED_RECIPES.clear();
-        CUSTOM_RECIPES.clear();
+    private static synchronized void loadRecipeConfigs() {
+        ConfigLoadEvent event = ConfigLoadEvent.start("loadRecipeConfigs");
+        long start = System.nanoTime();
         
-        try {
-            if (Files.exists(RECIPES_DIR)) {
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(RECIPES_DIR, "*.json")) {
-                    for (Path file : stream) {
-                        try {
-                            String content = Files.readString(file);
-                            JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                            
-                            String recipeName = file.getFileName().toString().replace(".json", "");
-                            
-                            // Check if recipe is disabled
-                            if (json.has("_enabled") && !json.get("_enabled").getAsBoolean()) {
-                                DISABLED_RECIPES.add(recipeName);
-                                CobblemonOrbs.LOGGER.info("Recipe disabled by config: {}", recipeName);
-                            } else {
-                                // Store custom recipe (removing our config fields)
-                                JsonObject cleanRecipe = json.deepCopy();
-                                cleanRecipe.remove("_enabled");
-                                cleanRecipe.remove("_comment");
-                                CUSTOM_RECIPES.put(recipeName, cleanRecipe);
-                            }
-                        } catch (Exception e) {
-                            CobblemonOrbs.LOGGER.error("Failed to load recipe config: {}", file, e);
-                        }
-                    }
-                }
+        ConfigDirectoryLoader.LoadResult<RecipeConfig> result =
+            loadEntries(RECIPES_FILE, RECIPES_DIR, "recipe config", RecipeConfig::read);
+        recipeConfigs = result.entries();
+        result.report().log();
+        GENERATION.incrementAndGet();
+        
+        int disabled = 0;
+        for (RecipeConfig config : recipeConfigs.values()) {
+            if (!config.enabled()) {
+                disabled++;
+                CobblemonOrbs.LOGGER.info("Recipe disabled by config: {}", config.name());
             }
-        } catch (IOException e) {
-            CobblemonOrbs.LOGGER.error("Failed to load recipe configs", e);
         }
         
-        CobblemonOrbs.LOGGER.info("Loaded {} custom recipes, {} disabled recipes", 
-            CUSTOM_RECIPES.size(), DISABLED_RECIPES.size());
+        CobblemonOrbs.LOGGER.info("Loaded {} custom recipes, {} disabled recipes in {} ms (list {} ms, read+parse {} ms)", 
+            recipeConfigs.size() - disabled, disabled,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), result.listMillis(), result.parseMillis());
+        event.finish(recipeConfigs.size(), "success");
     }
     
     /**
      * Check if a recipe is disabled by config.
      */
     public static boolean isRecipeDisabled(String recipeName) {
-        return DISABLED_RECIPES.contains(recipeName);
+        RecipeConfig config = recipeConfigs.get(recipeName);
+        return config != null && !config.enabled();
     }
     
     /**
      * Get custom recipe if modified, otherwise return null.
      */
     public static JsonObject getCustomRecipe(String recipeName) {
-        return CUSTOM_RECIPES.get(recipeName);
+        RecipeConfig config = recipeConfigs.get(recipeName);
+        return config != null && config.enabled() ? config.toJson() : null;
+    }
+    
+    /**
+     * Get every loaded recipe config by recipe name. Do not modify.
+     */
+    public static Map<String, RecipeConfig> getRecipeConfigs() {
+        return recipeConfigs;
     }
     
     /**
      * Check if an item is enabled.
      */
     public static boolean isItemEnabled(String itemId) {
-        Path itemFile = ITEMS_DIR.resolve(itemId + ".json");
-        if (Files.exists(itemFile)) {
-            try {
-                String content = Files.readString(itemFile);
-                JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                if (json.has("enabled")) {
-                    return json.get("enabled").getAsBoolean();
-                }
-            } catch (Exception e) {
-                CobblemonOrbs.LOGGER.error("Failed to read item config: {}", itemId, e);
-            }
-        }
-        return true; // Default to enabled
+        return itemConfigs.get(itemId).enabled();
     }
     
     /**
      * Check if an item is craftable.
      */
     public static boolean isItemCraftable(String itemId) {
-        Path itemFile = ITEMS_DIR.resolve(itemId + ".json");
-        if (Files.exists(itemFile)) {
-            try {
-                String content = Files.readString(itemFile);
-                JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                if (json.has("craftable")) {
-                    return json.get("craftable").getAsBoolean();
-                }
-            } catch (Exception e) {
-                CobblemonOrbs.LOGGER.error("Failed to read item config: {}", itemId, e);
-            }
-        }
-        return true; // Default to craftable
+        return itemConfigs.get(itemId).craftable();
     }
     
     /**
@@ -210,35 +207,190 @@ public class ConfigFileManager {
      * Returns null if not configured (use defaults).
      */
     public static ItemSpawnSettings getItemSpawnSettings(String itemId) {
-        Path itemFile = ITEMS_DIR.resolve(itemId + ".json");
-        if (Files.exists(itemFile)) {
-            try {
-                String content = Files.readString(itemFile);
-                JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                if (json.has("spawnSettings")) {
-                    JsonObject settings = json.getAsJsonObject("spawnSettings");
-                    return new ItemSpawnSettings(
-                        settings.has("level") ? settings.get("level").getAsInt() : -1,
-                        settings.has("shinyChance") ? settings.get("shinyChance").getAsDouble() : -1.0,
-                        settings.has("guaranteeShiny") && settings.get("guaranteeShiny").getAsBoolean(),
-                        settings.has("perfectIVs") && settings.get("perfectIVs").getAsBoolean()
-                    );
-                }
-            } catch (Exception e) {
-                CobblemonOrbs.LOGGER.error("Failed to read item spawn settings: {}", itemId, e);
-            }
+        return itemConfigs.get(itemId).spawnSettings();
+    }
+    
+    /**
+     * Get the generation of the current configs. It increases whenever item or recipe configs are reloaded.
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+    
+    /**
+     * Get the current item config snapshot.
+     */
+    public static ItemConfigSnapshot getItemConfigs() {
+        return itemConfigs;
+    }
+    
+    /**
+     * Load item configurations into a new snapshot and publish it.
+     */
+    private static synchronized void loadItemConfigs() {
+        ConfigLoadEvent event = ConfigLoadEvent.start("loadItemConfigs");
+        ConfigDirectoryLoader.LoadResult<ItemConfigSnapshot.ItemConfig> result =
+            loadEntries(ITEMS_FILE, ITEMS_DIR, "item config", ItemConfigSnapshot.PARSER);
+        itemConfigs = ItemConfigSnapshot.of(result.entries(), GENERATION.incrementAndGet());
+        result.report().log();
+        CobblemonOrbs.LOGGER.info("Loaded {} item configs", itemConfigs.size());
+        event.finish(itemConfigs.size(), "success");
+    }
+    
+    /**
+     * Load entries from the consolidated file if it exists, otherwise from the per-file folder.
+     */
+    private static <T> ConfigDirectoryLoader.LoadResult<T> loadEntries(Path consolidatedFile, Path dir, String kind,
+            ConfigDirectoryLoader.EntryParser<T> parser) {
+        if (Files.exists(consolidatedFile)) {
+            return ConsolidatedConfig.load(consolidatedFile, kind, parser);
         }
-        return null;
+        return ConfigDirectoryLoader.load(dir, kind, parser);
+    }
+    
+    /**
+     * Check if recipes are configured through the consolidated recipes.json file.
+     */
+    public static boolean hasConsolidatedRecipes() {
+        return Files.exists(RECIPES_FILE);
+    }
+    
+    /**
+     * Combine the per-file item and recipe configs into items.json and recipes.json.
+     *
+     * @return The total number of entries written
+     */
+    public static int packConfigs() throws IOException {
+        int count = ConsolidatedConfig.pack(ITEMS_DIR, ITEMS_FILE) + ConsolidatedConfig.pack(RECIPES_DIR, RECIPES_FILE);
+        reload();
+        return count;
+    }
+    
+    /**
+     * Split items.json and recipes.json back into per-file configs.
+     *
+     * @return The total number of entries written
+     */
+    public static int unpackConfigs() throws IOException {
+        int count = 0;
+        if (Files.exists(ITEMS_FILE)) {
+            count += ConsolidatedConfig.unpack(ITEMS_FILE, ITEMS_DIR);
+        }
+        if (Files.exists(RECIPES_FILE)) {
+            count += ConsolidatedConfig.unpack(RECIPES_FILE, RECIPES_DIR);
+        }
+        reload();
+        return count;
     }
     
     /**
      * Reload all configurations from disk.
      */
-    public static void reload() {
+    public static synchronized void reload() {
+        ConfigLoadEvent event = ConfigLoadEvent.start("reload");
+        long start = System.nanoTime();
         loadRecipeConfigs();
+        loadItemConfigs();
+        OrbMetrics.CONFIG_RELOAD.record(System.nanoTime() - start);
+        event.finish(recipeConfigs.size() + itemConfigs.size(), "success");
         CobblemonOrbs.LOGGER.info("Reloaded config files");
     }
     
+    /**
+     * Reload only the recipe configs from disk. Called on every datapack load, so /reload picks up edited recipes.
+     */
+    public static void reloadRecipes() {
+        loadRecipeConfigs();
+    }
+    
+    /**
+     * Apply changes to individual config files without reloading the rest.
+     * Changed files are parsed again and deleted ones removed, then a new snapshot is published.
+     * A file that fails to parse keeps its previous entry, so a half-written save does not reset it.
+     * Changes to items.json or recipes.json reload that whole file.
+     *
+     * @param changedFiles Paths of the created, modified or deleted files
+     */
+    public static synchronized void applyChanges(Collection<Path> changedFiles) {
+        ConfigLoadEvent event = ConfigLoadEvent.start("applyChanges");
+        long start = System.nanoTime();
+        
+        boolean consolidatedItems = Files.exists(ITEMS_FILE);
+        boolean consolidatedRecipes = Files.exists(RECIPES_FILE);
+        boolean reloadItems = false;
+        boolean reloadRecipes = false;
+        ConfigReport itemReport = new ConfigReport("item config");
+        ConfigReport recipeReport = new ConfigReport("recipe config");
+        Map<String, ItemConfigSnapshot.ItemConfig> updatedItems = new HashMap<>();
+        Set<String> removedItems = new HashSet<>();
+        Map<String, RecipeConfig> updatedRecipes = new HashMap<>();
+        Set<String> removedRecipes = new HashSet<>();
+        
+        for (Path file : changedFiles) {
+            if (file.equals(ITEMS_FILE)) {
+                reloadItems = true;
+            } else if (file.equals(RECIPES_FILE)) {
+                reloadRecipes = true;
+            } else if (ITEMS_DIR.equals(file.getParent()) && !consolidatedItems) {
+                applyFile(file, ItemConfigSnapshot.PARSER, itemReport, updatedItems, removedItems);
+            } else if (RECIPES_DIR.equals(file.getParent()) && !consolidatedRecipes) {
+                applyFile(file, RecipeConfig::read, recipeReport, updatedRecipes, removedRecipes);
+            }
+        }
+        
+        itemReport.log();
+        recipeReport.log();
+        
+        int entries = 0;
+        if (reloadItems) {
+            loadItemConfigs();
+            entries += itemConfigs.size();
+        } else if (!updatedItems.isEmpty() || !removedItems.isEmpty()) {
+            itemConfigs = itemConfigs.with(updatedItems, removedItems, GENERATION.incrementAndGet());
+            entries += updatedItems.size() + removedItems.size();
+        }
+        
+        if (reloadRecipes) {
+            loadRecipeConfigs();
+            entries += recipeConfigs.size();
+        } else if (!updatedRecipes.isEmpty() || !removedRecipes.isEmpty()) {
+            Map<String, RecipeConfig> recipes = new HashMap<>(recipeConfigs);
+            recipes.keySet().removeAll(removedRecipes);
+            recipes.putAll(updatedRecipes);
+            recipeConfigs = Map.copyOf(recipes);
+            GENERATION.incrementAndGet();
+            entries += updatedRecipes.size() + removedRecipes.size();
+        }
+        
+        boolean recipesChanged = reloadRecipes || !updatedRecipes.isEmpty() || !removedRecipes.isEmpty();
+        if (entries > 0 || reloadItems || recipesChanged) {
+            OrbMetrics.CONFIG_RELOAD.record(System.nanoTime() - start);
+            CobblemonOrbs.LOGGER.info("Applied changes to {} config files in {} ms (generation {}){}",
+                changedFiles.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), GENERATION.get(),
+                recipesChanged ? ", recipe changes take effect on the next /reload" : "");
+        }
+        event.finish(entries, "success");
+    }
+    
+    /**
+     * Parse one changed config file into the updated entries, or mark it removed if it was deleted.
+     */
+    private static <T> void applyFile(Path file, ConfigDirectoryLoader.EntryParser<T> parser, ConfigReport report,
+            Map<String, T> updated, Set<String> removed) {
+        String name = ConfigDirectoryLoader.entryName(file);
+        if (!Files.exists(file)) {
+            updated.remove(name);
+            removed.add(name);
+            return;
+        }
+        
+        T value = ConfigDirectoryLoader.loadFile(file, parser, report);
+        if (value != null) {
+            removed.remove(name);
+            updated.put(name, value);
+        }
+    }
+    
     /**
      * Create a README file explaining how to use the config system.
      */
@@ -270,6 +422,15 @@ public class ConfigFileManager {
                             - "shinyChance": Set shiny chance (or -1 for default)
                             - "guaranteeShiny": true/false
                             - "perfectIVs": true/false
+                        - "weights" - Random orbs only: relative chance per species,
+                          e.g. "weights": { "arceus": 0.1 } makes Arceus 10x rarer.
+                          Species not listed keep their catalog weight (1.0 by default).
+                    
+                    items.json / recipes.json (optional)
+                        Single-file alternative to the folders above, keyed by item/recipe name.
+                        When a file exists it is used instead of the matching folder.
+                        - /cobblemonorbs config pack   - combine the folders into these files
+                        - /cobblemonorbs config unpack - split them back into folders
                     
                     EXAMPLES:
                     ---------
@@ -286,13 +447,19 @@ public class ConfigFileManager {
                     To change a recipe:
                     1. Open /recipes/[item_name].json
                     2. Modify the "key" and "pattern" fields
-                    3. Restart the server
+                    3. Restart the server or run /reload
                     
                     NOTES:
                     ------
-                    - Changes require a server restart to take effect
-                    - Invalid JSON will cause the file to be skipped
+                    - Changes require a server restart to take effect, or set
+                      watchConfigFiles in cobblemonorbs-common.toml to apply item
+                      changes as soon as files are saved (recipes on the next /reload)
+                    - Problems are listed together in the server log with file and line
+                    - Invalid values use their defaults; invalid JSON skips the file
                     - Delete a config file to regenerate it with defaults
+                    - Files you have not edited are updated to the new defaults when the
+                      mod is upgraded; edited files are never overwritten
+                      (.export-manifest keeps track of this, do not edit it)
                     
                     """;
                 Files.writeString(readmeFile, content);
@@ -0,0 +1,218 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects every problem found while loading a set of config files, so they are logged
+ * as one report with file and line instead of one stack trace per file.
+ *
+ * Parsers read typed values through a {@link Source}, which checks the JSON type, clamps
+ * numbers to their allowed range and records a problem for anything it had to fix.
+ * The value is then used as the default, so a bad field is reported once at load time.
+ */
+public final class ConfigReport {
+    
+    // JsonReader and its exceptions describe their position as "... at line 12 column 5 path $.a"
+    private static final Pattern LINE = Pattern.compile("line (\\d+)");
+    
+    /**
+     * One problem in a config file.
+     *
+     * @param line The 1-based line, or 0 if it is not known
+     * @param path The JSON path of the value, or empty if it is not known
+     */
+    public record Problem(String file, int line, String path, String message) {
+        
+        @Override
+        public String toString() {
+            return file + (line > 0 ? ":" + line : "") + (path.isEmpty() ? "" : " " + path) + ": " + message;
+        }
+    }
+    
+    private final String kind;
+    private final List<Problem> problems = new ArrayList<>();
+    
+    /**
+     * @param kind Short description used in the report (e.g. "item config")
+     */
+    public ConfigReport(String kind) {
+        this.kind = kind;
+    }
+    
+    /**
+     * Get a source to read one config file through. Sources of one report may be used from several threads.
+     *
+     * @param file File name shown in the report, relative to the config folder
+     */
+    public Source source(String file) {
+        return new Source(file);
+    }
+    
+    /**
+     * Get the problems found so far, ordered by file and line.
+     */
+    public synchronized List<Problem> problems() {
+        List<Problem> sorted = new ArrayList<>(problems);
+        sorted.sort(Comparator.comparing(Problem::file).thenComparingInt(Problem::line));
+        return sorted;
+    }
+    
+    /**
+     * Logs all problems as a single warning. Does nothing if there are none.
+     */
+    public void log() {
+        List<Problem> sorted = problems();
+        if (sorted.isEmpty()) {
+            return;
+        }
+        
+        StringBuilder message = new StringBuilder();
+        for (Problem problem : sorted) {
+            message.append("\n  ").append(problem);
+        }
+        CobblemonOrbs.LOGGER.warn("Found {} problems in {} files, the affected values use their defaults:{}",
+            sorted.size(), kind, message);
+    }
+    
+    private synchronized void add(Problem problem) {
+        problems.add(problem);
+    }
+    
+    private static int lineOf(String location) {
+        if (location == null) {
+            return 0;
+        }
+        Matcher matcher = LINE.matcher(location);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+    
+    /**
+     * Reads typed values from one config file and reports problems against it.
+     */
+    public final class Source {
+        
+        private final String file;
+        
+        private Source(String file) {
+            this.file = file;
+        }
+        
+        /**
+         * Records a problem at the reader's current position.
+         */
+        public void problem(JsonReader in, String message) {
+            add(new Problem(file, lineOf(in.toString()), in.getPath(), message));
+        }
+        
+        /**
+         * Records a problem found after reading, at a JSON path but no known line.
+         */
+        public void problem(String path, String message) {
+            add(new Problem(file, 0, path, message));
+        }
+        
+        /**
+         * Records a file that could not be read or parsed at all.
+         */
+        public void failed(Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            add(new Problem(file, lineOf(message), "", message));
+        }
+        
+        /**
+         * Reads a boolean, or returns the fallback if the value is not one.
+         */
+        public boolean readBoolean(JsonReader in, boolean fallback) throws IOException {
+            if (in.peek() != JsonToken.BOOLEAN) {
+                return mismatch(in, "a boolean", fallback);
+            }
+            return in.nextBoolean();
+        }
+        
+        /**
+         * Reads a whole number clamped to min..max. The unset value is accepted as is.
+         */
+        public int readInt(JsonReader in, int unset, int min, int max) throws IOException {
+            if (in.peek() != JsonToken.NUMBER) {
+                return mismatch(in, "a whole number", unset);
+            }
+            
+            double value = in.nextDouble();
+            if (value == unset) {
+                return unset;
+            }
+            if (value != Math.rint(value)) {
+                problem(in, "expected a whole number but found " + value);
+            }
+            
+            long rounded = Math.round(value);
+            if (rounded < min || rounded > max) {
+                int clamped = (int) Math.max(min, Math.min(max, rounded));
+                problem(in, String.format(Locale.ROOT, "%d is outside %d..%d, using %d", rounded, min, max, clamped));
+                return clamped;
+            }
+            return (int) rounded;
+        }
+        
+        /**
+         * Reads a number clamped to min..max. The unset value is accepted as is.
+         */
+        public double readDouble(JsonReader in, double unset, double min, double max) throws IOException {
+            if (in.peek() != JsonToken.NUMBER) {
+                return mismatch(in, "a number", unset);
+            }
+            
+            double value = in.nextDouble();
+            if (value == unset) {
+                return unset;
+            }
+            if (!Double.isFinite(value)) {
+                problem(in, "expected a finite number but found " + value);
+                return unset;
+            }
+            if (value < min || value > max) {
+                double clamped = Math.max(min, Math.min(max, value));
+                problem(in, String.format(Locale.ROOT, "%s is outside %s..%s, using %s", value, min, max, clamped));
+                return clamped;
+            }
+            return value;
+        }
+        
+        /**
+         * Skips a field the schema does not know.
+         */
+        public void unknownField(JsonReader in, String name) throws IOException {
+            problem(in, "unknown field '" + name + "'");
+            in.skipValue();
+        }
+        
+        /**
+         * Checks that the next value is an object, skipping it and recording a problem otherwise.
+         *
+         * @return true if the object can be read
+         */
+        public boolean expectObject(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                mismatch(in, "an object", null);
+                return false;
+            }
+            return true;
+        }
+        
+        private <V> V mismatch(JsonReader in, String expected, V fallback) throws IOException {
+            problem(in, "expected " + expected + " but found " + in.peek().name().toLowerCase(Locale.ROOT));
+            in.skipValue();
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads config files while the server runs when watchConfigFiles is enabled.
+ *
+ * A background thread watches the config folder and its items/ and recipes/ folders.
+ * Changed file names are collected until no change has been seen for the debounce time,
+ * so an editor's save burst or a bulk copy results in one reload of just those files
+ * through {@link ConfigFileManager#applyChanges}.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class ConfigWatcher {
+    
+    private static volatile WatchService watchService;
+    
+    private ConfigWatcher() {
+    }
+    
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        if (OrbConfig.WATCH_CONFIG_FILES.get()) {
+            start();
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+    }
+    
+    private static synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+        
+        Path configDir = ConfigFileManager.getConfigDir();
+        WatchService service;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+            register(service, configDir);
+            register(service, configDir.resolve("items"));
+            register(service, configDir.resolve("recipes"));
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to watch config files in {}", configDir, e);
+            return;
+        }
+        
+        watchService = service;
+        long debounceNanos = TimeUnit.MILLISECONDS.toNanos(OrbConfig.CONFIG_WATCH_DEBOUNCE_MILLIS.get());
+        Thread thread = new Thread(() -> run(service, debounceNanos), "CobblemonOrbs-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        CobblemonOrbs.LOGGER.info("Watching config files in {} for changes", configDir);
+    }
+    
+    private static synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        
+        try {
+            // Wakes the watcher thread, which then exits
+            watchService.close();
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to stop watching config files", e);
+        }
+        watchService = null;
+    }
+    
+    private static void register(WatchService service, Path dir) throws IOException {
+        if (Files.isDirectory(dir)) {
+            dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        }
+    }
+    
+    private static void run(WatchService service, long debounceNanos) {
+        Set<Path> pending = new LinkedHashSet<>();
+        boolean overflow = false;
+        
+        try {
+            while (true) {
+                // Block until the first change, then wait for a quiet period after the last one
+                WatchKey key = pending.isEmpty() && !overflow
+                    ? service.take()
+                    : service.poll(debounceNanos, TimeUnit.NANOSECONDS);
+                
+                if (key == null) {
+                    apply(pending, overflow);
+                    pending = new LinkedHashSet<>();
+                    overflow = false;
+                    continue;
+                }
+                
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        overflow = true;
+                    } else if (event.context() instanceof Path name && name.toString().endsWith(".json")) {
+                        pending.add(dir.resolve(name));
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static void apply(Set<Path> changed, boolean overflow) {
+        try {
+            if (overflow) {
+                // Events were lost, so the changed files are not known
+                ConfigFileManager.reload();
+            } else {
+                ConfigFileManager.applyChanges(changed);
+            }
+        } catch (Exception e) {
+            CobblemonOrbs.LOGGER.error("Failed to apply config file changes", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.cobblemonorbs.config;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.metrics.OrbMetrics;
+import com.cobblemonorbs.metrics.RecipeConditionEvent;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.neoforged.neoforge.common.conditions.ICondition;
@@ -18,11 +20,22 @@ public record ConfigurableRecipeCondition(String itemId) implements ICondition {
     
     @Override
     public boolean test(ICondition.IContext context) {
+        OrbMetrics.recordConditionEvaluation();
+        RecipeConditionEvent event = new RecipeConditionEvent();
+        event.begin();
+        
         // Check if the item is craftable via config
         boolean craftable = ConfigFileManager.isItemCraftable(itemId);
         if (!craftable) {
             CobblemonOrbs.LOGGER.debug("Recipe for {} disabled by config", itemId);
         }
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.itemId = itemId;
+            event.outcome = craftable ? "craftable" : "disabled";
+            event.commit();
+        }
         return craftable;
     }
     
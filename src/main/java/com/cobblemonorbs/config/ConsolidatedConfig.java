@@ -0,0 +1,152 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional single-file config layout.
+ * Instead of one file per item or recipe, all entries live in one JSON object keyed by ID
+ * (items.json / recipes.json). The file is memory-mapped and stream-parsed in one pass,
+ * which avoids hundreds of small reads on slow disks and overlay filesystems.
+ *
+ * Admins can convert between the two layouts with /cobblemonorbs config pack|unpack.
+ */
+public final class ConsolidatedConfig {
+    
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    
+    private ConsolidatedConfig() {
+    }
+    
+    /**
+     * Loads every entry of a consolidated file with a single mapped read.
+     * Entries that fail to parse are reported and left out of the result.
+     */
+    public static <T> ConfigDirectoryLoader.LoadResult<T> load(Path file, String kind,
+            ConfigDirectoryLoader.EntryParser<T> parser) {
+        long start = System.nanoTime();
+        Map<String, T> entries = new HashMap<>();
+        ConfigReport report = new ConfigReport(kind);
+        ConfigReport.Source source = report.source(file.getFileName().toString());
+        long mapped = start;
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CharBuffer chars = StandardCharsets.UTF_8.decode(buffer);
+            mapped = System.nanoTime();
+            
+            JsonReader reader = new JsonReader(new CharBufferReader(chars));
+            reader.setLenient(true);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                T value = parser.parse(name, reader, source);
+                if (value != null) {
+                    entries.put(name, value);
+                }
+            }
+        } catch (Exception e) {
+            // The reader position is unknown after a syntax error, so the remaining entries are lost
+            source.failed(e);
+        }
+        
+        return new ConfigDirectoryLoader.LoadResult<>(Map.copyOf(entries), report, mapped - start,
+            System.nanoTime() - mapped);
+    }
+    
+    /**
+     * Combines every *.json file of a folder into one consolidated file.
+     *
+     * @return The number of entries written
+     */
+    public static int pack(Path dir, Path file) throws IOException {
+        JsonObject combined = new JsonObject();
+        
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.json")) {
+                for (Path entryFile : stream) {
+                    String name = entryFile.getFileName().toString().replace(".json", "");
+                    try {
+                        combined.add(name, JsonParser.parseString(Files.readString(entryFile)));
+                    } catch (Exception e) {
+                        CobblemonOrbs.LOGGER.error("Skipping invalid config file while packing: {}", entryFile, e);
+                    }
+                }
+            }
+        }
+        
+        writeAtomically(file, GSON.toJson(combined));
+        return combined.size();
+    }
+    
+    /**
+     * Splits a consolidated file back into one file per entry and removes the consolidated file,
+     * so the folder layout becomes active again. Existing per-entry files are overwritten.
+     *
+     * @return The number of entries written
+     */
+    public static int unpack(Path file, Path dir) throws IOException {
+        JsonObject combined = JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+        Files.createDirectories(dir);
+        
+        for (Map.Entry<String, JsonElement> entry : combined.entrySet()) {
+            writeAtomically(dir.resolve(entry.getKey() + ".json"), GSON.toJson(entry.getValue()));
+        }
+        
+        Files.delete(file);
+        return combined.size();
+    }
+    
+    /**
+     * Writes a file through a temp file and an atomic move, so readers never see it half written.
+     */
+    static void writeAtomically(Path target, String content) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Reader over an already decoded buffer, so the mapped file is not copied into a String.
+     */
+    private static final class CharBufferReader extends Reader {
+        private final CharBuffer buffer;
+        
+        private CharBufferReader(CharBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        @Override
+        public int read(char[] target, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.neoforged.fml.ModList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Writes default config files, using a manifest of what earlier startups exported.
+ *
+ * The manifest (config/cobblemonorbs/.export-manifest) records, per folder, the mod version,
+ * a hash of the exported names and the hash of each default as it was written. When the version
+ * and names match, startup costs one manifest read and one folder listing, which only restores
+ * deleted files. After an upgrade every default is rendered again: new files are written, files
+ * still identical to the default written before are replaced by the new default, and files the
+ * admin has changed are left alone. Files are written in parallel through atomic temp-file moves.
+ */
+public final class DefaultConfigExporter {
+    
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String MANIFEST_NAME = ".export-manifest";
+    
+    /**
+     * One default file.
+     *
+     * @param name The file name without extension
+     * @param content Renders the file content, or returns null if there is no default to write
+     */
+    public record Default(String name, Supplier<String> content) {
+    }
+    
+    /**
+     * What an export did.
+     *
+     * @param written New files written, including restored deleted ones
+     * @param updated Unchanged old defaults replaced by a new default
+     * @param kept Existing files left alone, because they are current or were edited
+     * @param upToDate Whether the manifest matched and only missing files were checked
+     */
+    public record Result(int written, int updated, int kept, boolean upToDate) {
+        
+        public boolean changed() {
+            return written + updated > 0;
+        }
+    }
+    
+    private enum Action {
+        WRITTEN,
+        UPDATED,
+        KEPT,
+        SKIPPED
+    }
+    
+    /**
+     * @param hash The hash to record in the manifest, or null to record none
+     */
+    private record Outcome(String name, Action action, String hash) {
+    }
+    
+    private DefaultConfigExporter() {
+    }
+    
+    /**
+     * Exports defaults into a folder of the config directory.
+     *
+     * @param section The folder name, also used as the manifest section (e.g. "items")
+     * @param defaults Every default file of the folder
+     */
+    public static synchronized Result export(String section, List<Default> defaults) {
+        Path configDir = ConfigFileManager.getConfigDir();
+        Path dir = configDir.resolve(section);
+        JsonObject manifest = readManifest(configDir.resolve(MANIFEST_NAME));
+        JsonObject previous = manifest.has(section) ? manifest.getAsJsonObject(section) : new JsonObject();
+        
+        Map<String, String> recorded = new HashMap<>();
+        if (previous.has("files")) {
+            for (Map.Entry<String, JsonElement> entry : previous.getAsJsonObject("files").entrySet()) {
+                recorded.put(entry.getKey(), entry.getValue().getAsString());
+            }
+        }
+        
+        StringBuilder names = new StringBuilder();
+        for (Default entry : defaults) {
+            names.append(entry.name()).append('\n');
+        }
+        String version = modVersion();
+        String namesHash = hash(names.toString());
+        boolean upToDate = version.equals(stringOrNull(previous, "version"))
+            && namesHash.equals(stringOrNull(previous, "names"));
+        
+        // Up to date: only files that were deleted need their default back
+        List<Default> candidates = defaults;
+        if (upToDate) {
+            Set<String> existing = listJsonFiles(dir);
+            candidates = defaults.stream().filter(entry -> !existing.contains(entry.name())).toList();
+            if (candidates.isEmpty()) {
+                return new Result(0, 0, defaults.size(), true);
+            }
+        }
+        
+        List<Outcome> outcomes = candidates.parallelStream()
+            .map(entry -> exportFile(dir, entry, recorded.get(entry.name())))
+            .toList();
+        
+        int written = 0;
+        int updated = 0;
+        for (Outcome outcome : outcomes) {
+            switch (outcome.action()) {
+                case WRITTEN -> written++;
+                case UPDATED -> updated++;
+                default -> {
+                }
+            }
+            if (outcome.hash() != null) {
+                recorded.put(outcome.name(), outcome.hash());
+            }
+        }
+        
+        JsonObject files = new JsonObject();
+        recorded.forEach(files::addProperty);
+        JsonObject current = new JsonObject();
+        current.addProperty("version", version);
+        current.addProperty("names", namesHash);
+        current.add("files", files);
+        manifest.add(section, current);
+        try {
+            ConsolidatedConfig.writeAtomically(configDir.resolve(MANIFEST_NAME), GSON.toJson(manifest));
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to write config export manifest", e);
+        }
+        
+        return new Result(written, updated, defaults.size() - written - updated, upToDate);
+    }
+    
+    private static Outcome exportFile(Path dir, Default entry, String recordedHash) {
+        String content = entry.content().get();
+        if (content == null) {
+            return new Outcome(entry.name(), Action.SKIPPED, null);
+        }
+        
+        String hash = hash(content);
+        Path file = dir.resolve(entry.name() + ".json");
+        try {
+            if (!Files.exists(file)) {
+                ConsolidatedConfig.writeAtomically(file, content);
+                return new Outcome(entry.name(), Action.WRITTEN, hash);
+            }
+            
+            String currentHash = hash(Files.readString(file, StandardCharsets.UTF_8));
+            if (currentHash.equals(hash)) {
+                return new Outcome(entry.name(), Action.KEPT, hash);
+            }
+            
+            // Still exactly what was exported last time, so the admin has not touched it
+            if (currentHash.equals(recordedHash)) {
+                ConsolidatedConfig.writeAtomically(file, content);
+                return new Outcome(entry.name(), Action.UPDATED, hash);
+            }
+            
+            return new Outcome(entry.name(), Action.KEPT, recordedHash);
+        } catch (IOException e) {
+            CobblemonOrbs.LOGGER.error("Failed to export default config: {}", file, e);
+            return new Outcome(entry.name(), Action.SKIPPED, recordedHash);
+        }
+    }
+    
+    private static JsonObject readManifest(Path file) {
+        if (!Files.exists(file)) {
+            return new JsonObject();
+        }
+        
+        try {
+            return JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8)).getAsJsonObject();
+        } catch (Exception e) {
+            // Without a manifest every existing file counts as edited, so nothing is lost
+            CobblemonOrbs.LOGGER.warn("Ignoring unreadable config export manifest: {}", file, e);
+            return new JsonObject();
+        }
+    }
+    
+    private static Set<String> listJsonFiles(Path dir) {
+        Set<String> names = new HashSet<>();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.json")) {
+                for (Path file : stream) {
+                    names.add(ConfigDirectoryLoader.entryName(file));
+                }
+            } catch (IOException e) {
+                CobblemonOrbs.LOGGER.error("Failed to list config files in {}", dir, e);
+            }
+        }
+        return names;
+    }
+    
+    private static String stringOrNull(JsonObject json, String key) {
+        return json.has(key) && json.get(key).isJsonPrimitive() ? json.get(key).getAsString() : null;
+    }
+    
+    private static String modVersion() {
+        return ModList.get().getModContainerById(CobblemonOrbs.MOD_ID)
+            .map(container -> container.getModInfo().getVersion().toString())
+            .orElse("unknown");
+    }
+    
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.cobblemonorbs.config;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory view of the item config files.
+ * Built once from the item configs and replaced as a whole on reload,
+ * so lookups by item ID never touch the filesystem. Each published snapshot
+ * carries the config generation it was built for.
+ */
+public final class ItemConfigSnapshot {
+    
+    public static final ItemConfigSnapshot EMPTY = new ItemConfigSnapshot(Map.of(), 0);
+    
+    /**
+     * Parser for a single item config entry.
+     */
+    public static final ConfigDirectoryLoader.EntryParser<ItemConfig> PARSER =
+        (itemId, reader, problems) -> ItemConfig.read(reader, problems);
+    
+    private final Map<String, ItemConfig> items;
+    private final long generation;
+    
+    private ItemConfigSnapshot(Map<String, ItemConfig> items, long generation) {
+        this.items = items;
+        this.generation = generation;
+    }
+    
+    /**
+     * Creates a snapshot from parsed item configs keyed by item ID.
+     */
+    public static ItemConfigSnapshot of(Map<String, ItemConfig> items) {
+        return of(items, 0);
+    }
+    
+    /**
+     * Creates a snapshot from parsed item configs keyed by item ID, for a config generation.
+     */
+    public static ItemConfigSnapshot of(Map<String, ItemConfig> items, long generation) {
+        return new ItemConfigSnapshot(Map.copyOf(items), generation);
+    }
+    
+    /**
+     * Creates a new snapshot with some entries replaced or removed, sharing nothing mutable with this one.
+     *
+     * @param updated Entries to add or replace
+     * @param removed Item IDs to remove
+     */
+    public ItemConfigSnapshot with(Map<String, ItemConfig> updated, Set<String> removed, long generation) {
+        Map<String, ItemConfig> merged = new HashMap<>(items);
+        merged.keySet().removeAll(removed);
+        merged.putAll(updated);
+        return of(merged, generation);
+    }
+    
+    /**
+     * Get the config for an item, or the defaults if it has no config file.
+     */
+    public ItemConfig get(String itemId) {
+        return items.getOrDefault(itemId, ItemConfig.DEFAULT);
+    }
+    
+    /**
+     * Get the IDs of the items that have a config file.
+     */
+    public Set<String> itemIds() {
+        return items.keySet();
+    }
+    
+    /**
+     * Get the config generation this snapshot was published for.
+     */
+    public long generation() {
+        return generation;
+    }
+    
+    /**
+     * Get the number of item config files in this snapshot.
+     */
+    public int size() {
+        return items.size();
+    }
+    
+    /**
+     * Parsed contents of a single item config file.
+     * weights holds per-species weight overrides for random orbs, keyed by lowercase species ID.
+     */
+    public record ItemConfig(boolean enabled, boolean craftable, ConfigFileManager.ItemSpawnSettings spawnSettings,
+                             Map<String, Double> weights) {
+        
+        public static final ItemConfig DEFAULT = new ItemConfig(true, true, null, Map.of());
+        
+        /**
+         * Reads an item config, checking every field against the schema below.
+         * Fields with a wrong type or range are reported and use their default.
+         *
+         * <pre>
+         * enabled, craftable: boolean
+         * spawnSettings: { level: -1 or 1..100, shinyChance: -1 or 0..1, guaranteeShiny, perfectIVs: boolean }
+         * weights: { species: number >= 0 }
+         * </pre>
+         *
+         * @return The config, or null if the entry is not an object
+         */
+        static ItemConfig read(JsonReader in, ConfigReport.Source problems) throws IOException {
+            if (!problems.expectObject(in)) {
+                return null;
+            }
+            
+            boolean enabled = true;
+            boolean craftable = true;
+            ConfigFileManager.ItemSpawnSettings spawnSettings = null;
+            Map<String, Double> weights = Map.of();
+            
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                switch (key) {
+                    case "enabled" -> enabled = problems.readBoolean(in, true);
+                    case "craftable" -> craftable = problems.readBoolean(in, true);
+                    case "spawnSettings" -> spawnSettings = readSpawnSettings(in, problems);
+                    case "weights" -> weights = readWeights(in, problems);
+                    case "_comment" -> in.skipValue();
+                    default -> problems.unknownField(in, key);
+                }
+            }
+            in.endObject();
+            
+            return new ItemConfig(enabled, craftable, spawnSettings, weights);
+        }
+        
+        private static ConfigFileManager.ItemSpawnSettings readSpawnSettings(JsonReader in, ConfigReport.Source problems)
+                throws IOException {
+            if (!problems.expectObject(in)) {
+                return null;
+            }
+            
+            // Same ranges as the defaults in OrbConfig, with -1 meaning "use the default"
+            int level = -1;
+            double shinyChance = -1.0;
+            boolean guaranteeShiny = false;
+            boolean perfectIVs = false;
+            
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                switch (key) {
+                    case "level" -> level = problems.readInt(in, -1, 1, 100);
+                    case "shinyChance" -> shinyChance = problems.readDouble(in, -1.0, 0.0, 1.0);
+                    case "guaranteeShiny" -> guaranteeShiny = problems.readBoolean(in, false);
+                    case "perfectIVs" -> perfectIVs = problems.readBoolean(in, false);
+                    case "_comment" -> in.skipValue();
+                    default -> problems.unknownField(in, key);
+                }
+            }
+            in.endObject();
+            
+            return new ConfigFileManager.ItemSpawnSettings(level, shinyChance, guaranteeShiny, perfectIVs);
+        }
+        
+        private static Map<String, Double> readWeights(JsonReader in, ConfigReport.Source problems) throws IOException {
+            if (!problems.expectObject(in)) {
+                return Map.of();
+            }
+            
+            Map<String, Double> weights = new HashMap<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                String species = in.nextName().toLowerCase(Locale.ROOT);
+                double weight = problems.readDouble(in, -1.0, 0.0, Double.MAX_VALUE);
+                if (weight >= 0) {
+                    weights.put(species, weight);
+                }
+            }
+            in.endObject();
+            
+            return Map.copyOf(weights);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.cobblemonorbs.config;
 
+import com.cobblemonorbs.pokemon.SpawnBroadcaster;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 /**
@@ -10,7 +11,7 @@ public class OrbConfig {
     public static final ModConfigSpec SPEC;
     
     // Spawn Settings
-    public static final ModConfigSpec.IntValue DEFAULT_SPAWN_LEVEL;
+    public static final ModConfigSpec.IntValue FIXED_SPAWN_LEVEL;
     public static final ModConfigSpec.DoubleValue DEFAULT_SHINY_CHANCE;
     public static final ModConfigSpec.IntValue DEFAULT_SPAWN_RADIUS;
     
@@ -24,6 +25,25 @@ public class OrbConfig {
     public static final ModConfigSpec.BooleanValue CONSUME_ON_USE;
     public static final ModConfigSpec.BooleanValue SHOW_PARTICLE_EFFECTS;
     public static final ModConfigSpec.BooleanValue BROADCAST_SPAWNS;
+    public static final ModConfigSpec.IntValue BROADCAST_WINDOW_TICKS;
+    public static final ModConfigSpec.IntValue BROADCAST_MAX_PACKETS_PER_SECOND;
+    public static final ModConfigSpec.EnumValue<SpawnBroadcaster.Scope> BROADCAST_SCOPE;
+    public static final ModConfigSpec.IntValue BROADCAST_RANGE;
+    public static final ModConfigSpec.LongValue RANDOM_SEED;
+    
+    // Performance Settings
+    public static final ModConfigSpec.IntValue MAX_SPAWNS_PER_TICK;
+    public static final ModConfigSpec.IntValue SPAWN_TICK_BUDGET_MICROS;
+    public static final ModConfigSpec.IntValue SPAWN_QUEUE_CAPACITY;
+    
+    // Audit Settings
+    public static final ModConfigSpec.BooleanValue AUDIT_LOG;
+    public static final ModConfigSpec.IntValue AUDIT_MAX_FILE_SIZE_MB;
+    public static final ModConfigSpec.IntValue AUDIT_MAX_FILES;
+    
+    // Config File Settings
+    public static final ModConfigSpec.BooleanValue WATCH_CONFIG_FILES;
+    public static final ModConfigSpec.IntValue CONFIG_WATCH_DEBOUNCE_MILLIS;
     
     static {
         ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
@@ -35,12 +55,13 @@ public class OrbConfig {
         builder.comment("Default spawn settings for orbs")
                .push("spawn");
         
-        DEFAULT_SPAWN_LEVEL = builder
-            .comment("Default level for spawned Pokémon")
-            .defineInRange("defaultLevel", 70, 1, 100);
+        FIXED_SPAWN_LEVEL = builder
+            .comment("Fixed level for Pokémon spawned by orbs, unless an item config sets its own.",
+                     "0 keeps each orb's own level range")
+            .defineInRange("fixedLevel", 0, 0, 100);
         
         DEFAULT_SHINY_CHANCE = builder
-            .comment("Default shiny chance for non-shiny orbs (0.0 to 1.0)")
+            .comment("Default shiny chance for non-shiny orbs (0.0 to 1.0), unless an item config sets its own")
             .defineInRange("defaultShinyChance", 0.001, 0.0, 1.0);
         
         DEFAULT_SPAWN_RADIUS = builder
@@ -87,6 +108,81 @@ public class OrbConfig {
             .comment("Broadcast to all players when a legendary/mythical is spawned")
             .define("broadcastSpawns", false);
         
+        BROADCAST_WINDOW_TICKS = builder
+            .comment("Spawns within this many ticks are combined into one broadcast message")
+            .defineInRange("broadcastWindowTicks", 40, 1, 1200);
+        
+        BROADCAST_MAX_PACKETS_PER_SECOND = builder
+            .comment("Maximum broadcast messages sent per second across all players; further spawns are combined into later messages")
+            .defineInRange("broadcastMaxPacketsPerSecond", 200, 1, 10000);
+        
+        BROADCAST_SCOPE = builder
+            .comment("Who hears about a spawn: ALL players, players in the same DIMENSION, or players within broadcastRange")
+            .defineEnum("broadcastScope", SpawnBroadcaster.Scope.ALL);
+        
+        BROADCAST_RANGE = builder
+            .comment("Range in blocks for the RANGE broadcast scope")
+            .defineInRange("broadcastRange", 256, 16, 30000);
+        
+        RANDOM_SEED = builder
+            .comment("Seed for orb rolls (species, level, shininess, position), applied on server start.",
+                     "Each dimension gets its own sequence, so test runs are reproducible. 0 = unseeded")
+            .defineInRange("randomSeed", 0L, Long.MIN_VALUE, Long.MAX_VALUE);
+        
+        builder.pop();
+        
+        // Performance Settings
+        builder.comment("Orb uses are queued and spawned at the end of the server tick, within these limits")
+               .push("performance");
+        
+        MAX_SPAWNS_PER_TICK = builder
+            .comment("Maximum number of queued orb spawns processed per server tick")
+            .defineInRange("maxSpawnsPerTick", 4, 1, 64);
+        
+        SPAWN_TICK_BUDGET_MICROS = builder
+            .comment("Time budget per server tick for queued orb spawns, in microseconds.",
+                     "At least one spawn is processed per tick even if it takes longer")
+            .defineInRange("spawnTickBudgetMicros", 2000, 100, 50000);
+        
+        SPAWN_QUEUE_CAPACITY = builder
+            .comment("Maximum number of orb spawns waiting in the queue; further uses are rejected until it drains")
+            .defineInRange("spawnQueueCapacity", 256, 1, 4096);
+        
+        builder.pop();
+        
+        // Audit Settings
+        builder.comment("Audit trail of orb spawns, written to logs/cobblemonorbs/ in the background")
+               .push("audit");
+        
+        AUDIT_LOG = builder
+            .comment("Record every orb spawn (player, species, level, position) in spawn-audit.ndjson.",
+                     "When disabled, spawns are written to the server log instead")
+            .define("auditLog", true);
+        
+        AUDIT_MAX_FILE_SIZE_MB = builder
+            .comment("Size in MB at which the audit file is rotated")
+            .defineInRange("maxFileSizeMb", 8, 1, 512);
+        
+        AUDIT_MAX_FILES = builder
+            .comment("Number of rotated audit files to keep")
+            .defineInRange("maxFiles", 5, 1, 50);
+        
+        builder.pop();
+        
+        // Config File Settings
+        builder.comment("The JSON files in config/cobblemonorbs/")
+               .push("configFiles");
+        
+        WATCH_CONFIG_FILES = builder
+            .comment("Reload item and recipe config files while the server is running as soon as they are saved.",
+                     "Only the changed files are read again. Recipe changes still need /reload to reach the recipe book")
+            .define("watchConfigFiles", false);
+        
+        CONFIG_WATCH_DEBOUNCE_MILLIS = builder
+            .comment("Quiet time after the last file change before the changes are applied, in milliseconds,",
+                     "so an editor saving several files at once causes one reload")
+            .defineInRange("watchDebounceMillis", 500, 50, 10000);
+        
         builder.pop();
         
         builder.pop(); // general
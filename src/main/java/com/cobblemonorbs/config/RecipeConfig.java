@@ -0,0 +1,109 @@
+package com.cobblemonorbs.config;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Compact form of a recipe config entry.
+ * The entry is stream-parsed once: the config fields are read into flags and the
+ * remaining recipe body is kept as compact JSON text instead of a full JSON tree.
+ *
+ * @param name The recipe name (file name without extension)
+ * @param enabled Whether the recipe is enabled by config
+ * @param recipeJson The recipe body without config fields, as compact JSON
+ */
+public record RecipeConfig(String name, boolean enabled, String recipeJson) {
+    
+    /**
+     * Stream-parses a recipe config entry.
+     * Both "_enabled" and "enabled" are accepted, since older exports used either one.
+     * The recipe body must at least have a "type" and a "result"; the rest is checked
+     * when the game decodes the recipe.
+     *
+     * @return The config, or null if the entry is not a usable recipe
+     */
+    public static RecipeConfig read(String name, JsonReader in, ConfigReport.Source problems) throws IOException {
+        if (!problems.expectObject(in)) {
+            return null;
+        }
+        
+        StringWriter buffer = new StringWriter();
+        JsonWriter out = new JsonWriter(buffer);
+        boolean enabled = true;
+        boolean hasType = false;
+        boolean hasResult = false;
+        
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            switch (key) {
+                case "_enabled", "enabled" -> enabled &= problems.readBoolean(in, true);
+                case "_comment" -> in.skipValue();
+                default -> {
+                    hasType |= key.equals("type");
+                    hasResult |= key.equals("result");
+                    out.name(key);
+                    copyValue(in, out);
+                }
+            }
+        }
+        in.endObject();
+        out.endObject();
+        out.flush();
+        
+        // A disabled recipe only needs its flag
+        if (enabled && (!hasType || !hasResult)) {
+            problems.problem(in, "recipe is missing \"" + (hasType ? "result" : "type")
+                + "\", using the built-in recipe");
+            return null;
+        }
+        
+        return new RecipeConfig(name, enabled, buffer.toString());
+    }
+    
+    /**
+     * Parse the recipe body into a fresh JSON object.
+     */
+    public JsonObject toJson() {
+        return JsonParser.parseString(recipeJson).getAsJsonObject();
+    }
+    
+    private static void copyValue(JsonReader in, JsonWriter out) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_OBJECT -> {
+                in.beginObject();
+                out.beginObject();
+                while (in.hasNext()) {
+                    out.name(in.nextName());
+                    copyValue(in, out);
+                }
+                in.endObject();
+                out.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                in.beginArray();
+                out.beginArray();
+                while (in.hasNext()) {
+                    copyValue(in, out);
+                }
+                in.endArray();
+                out.endArray();
+            }
+            case STRING -> out.value(in.nextString());
+            // Keep the number literal exactly as written
+            case NUMBER -> out.jsonValue(in.nextString());
+            case BOOLEAN -> out.value(in.nextBoolean());
+            case NULL -> {
+                in.nextNull();
+                out.nullValue();
+            }
+            default -> throw new IOException("Unexpected JSON token " + in.peek() + " at " + in.getPath());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.cobblemonorbs.config;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the recipe configs to the server's recipe manager.
+ *
+ * Every enabled recipe config is decoded with the game's recipe codec and replaces the
+ * built-in recipe of the same name; recipes disabled with "_enabled": false are removed.
+ * This runs when the server starts and after every /reload, which first reads the recipe configs
+ * from disk again, before recipes are sent to players. /cobblemonorbs reload applies the configs
+ * to the current recipes without a datapack reload, restoring the recipes it replaced last time.
+ *
+ * Decoded recipes are cached by their JSON, so /reload only decodes the files that changed.
+ * Recipes that fail to decode keep the built-in version and are reported with their file.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class RecipeOverrides {
+    
+    // Datapack loading conditions; item craftability is checked here instead
+    private static final String CONDITIONS_KEY = "neoforge:conditions";
+    
+    /**
+     * Result of decoding one recipe config.
+     *
+     * @param recipeJson The recipe body this was decoded from
+     * @param recipe The recipe, or null if decoding failed
+     * @param error Why decoding failed, or null
+     */
+    private record Compiled(String recipeJson, Recipe<?> recipe, String error) {
+    }
+    
+    private static final Map<String, Compiled> CACHE = new ConcurrentHashMap<>();
+    
+    // Recipes from the last datapack load that configs replaced or removed; null for IDs that had none
+    private static final Map<ResourceLocation, RecipeHolder<?>> ORIGINALS = new HashMap<>();
+    
+    private RecipeOverrides() {
+    }
+    
+    @SubscribeEvent
+    public static void onServerStarting(ServerStartingEvent event) {
+        apply(event.getServer(), true);
+    }
+    
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        // On /reload the new recipes are in place by now; on first load the server does not exist yet
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD && server != null) {
+            ConfigFileManager.reloadRecipes();
+            apply(server, true);
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        // Decoded recipes hold registry entries of this world
+        CACHE.clear();
+        synchronized (ORIGINALS) {
+            ORIGINALS.clear();
+        }
+    }
+    
+    /**
+     * Applies the current recipe configs to the server's recipes and sends them to every player.
+     * Used after the configs were reloaded without a datapack reload.
+     */
+    public static void reapply(MinecraftServer server) {
+        apply(server, false);
+        server.getPlayerList().reloadResources();
+    }
+    
+    /**
+     * @param dataLoaded Whether the recipe manager was just loaded from datapacks, so it holds only built-in recipes
+     */
+    private static void apply(MinecraftServer server, boolean dataLoaded) {
+        synchronized (ORIGINALS) {
+            if (dataLoaded) {
+                ORIGINALS.clear();
+            }
+            applyConfigs(server, dataLoaded);
+        }
+    }
+    
+    private static void applyConfigs(MinecraftServer server, boolean dataLoaded) {
+        Map<String, RecipeConfig> configs = ConfigFileManager.getRecipeConfigs();
+        if (configs.isEmpty() && ORIGINALS.isEmpty()) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        RecipeManager manager = server.getRecipeManager();
+        RegistryOps<JsonElement> ops = server.registryAccess().createSerializationContext(JsonOps.INSTANCE);
+        boolean consolidated = ConfigFileManager.hasConsolidatedRecipes();
+        ConfigReport report = new ConfigReport("recipe config");
+        
+        Map<ResourceLocation, RecipeHolder<?>> recipes = new LinkedHashMap<>();
+        for (RecipeHolder<?> holder : manager.getRecipes()) {
+            recipes.put(holder.id(), holder);
+        }
+        
+        // Undo the previous configs, so recipes whose config was removed or reverted get their built-in version back
+        if (!dataLoaded) {
+            ORIGINALS.forEach((id, original) -> {
+                if (original != null) {
+                    recipes.put(id, original);
+                } else {
+                    recipes.remove(id);
+                }
+            });
+        }
+        
+        int replaced = 0;
+        int removed = 0;
+        int decoded = 0;
+        for (RecipeConfig config : configs.values()) {
+            ResourceLocation id = ResourceLocation.fromNamespaceAndPath(CobblemonOrbs.MOD_ID, config.name());
+            if (!ORIGINALS.containsKey(id)) {
+                ORIGINALS.put(id, recipes.get(id));
+            }
+            
+            if (!config.enabled()) {
+                if (recipes.remove(id) != null) {
+                    removed++;
+                }
+                continue;
+            }
+            
+            // Uncraftable items already lost their built-in recipe to its condition
+            if (!recipes.containsKey(id) && !ConfigFileManager.isItemCraftable(config.name())) {
+                continue;
+            }
+            
+            Compiled compiled = CACHE.get(config.name());
+            if (compiled == null || !compiled.recipeJson().equals(config.recipeJson())) {
+                compiled = compile(config, ops);
+                CACHE.put(config.name(), compiled);
+                decoded++;
+            }
+            
+            if (compiled.recipe() == null) {
+                ConfigReport.Source source = consolidated
+                    ? report.source("recipes.json")
+                    : report.source("recipes/" + config.name() + ".json");
+                source.problem(consolidated ? "$." + config.name() : "",
+                    "could not decode recipe, using the built-in recipe: " + compiled.error());
+                continue;
+            }
+            
+            recipes.put(id, new RecipeHolder<>(id, compiled.recipe()));
+            replaced++;
+        }
+        
+        manager.replaceRecipes(recipes.values());
+        report.log();
+        CobblemonOrbs.LOGGER.info("Applied recipe configs: {} replaced, {} removed, {} decoded in {} ms",
+            replaced, removed, decoded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+    
+    private static Compiled compile(RecipeConfig config, RegistryOps<JsonElement> ops) {
+        try {
+            JsonObject json = config.toJson();
+            json.remove(CONDITIONS_KEY);
+            
+            DataResult<Recipe<?>> result = Recipe.CODEC.parse(ops, json);
+            return result.error().isPresent()
+                ? new Compiled(config.recipeJson(), null, result.error().get().message())
+                : new Compiled(config.recipeJson(), result.getOrThrow(), null);
+        } catch (Exception e) {
+            return new Compiled(config.recipeJson(), null, e.getMessage());
+        }
+    }
+}
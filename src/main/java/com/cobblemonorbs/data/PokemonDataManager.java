@@ -1,141 +1,131 @@
 package com.cobblemonorbs.data;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.item.api.OrbCategory;
+
 import java.util.List;
 
 /**
  * Manages the lists of Pokémon by category.
- * Contains all Legendary, Mythical, and Paradox Pokémon identifiers.
+ * The lists are derived from the active {@link SpeciesCatalog}, which starts as the
+ * built-in catalog and is replaced when datapacks are (re)loaded.
  */
 public class PokemonDataManager {
     
-    // All Legendary Pokémon
-    private static final List<String> LEGENDARY_POKEMON = List.of(
-        // Generation 1
-        "articuno", "zapdos", "moltres", "mewtwo",
-        // Generation 2
-        "raikou", "entei", "suicune", "lugia", "ho-oh",
-        // Generation 3
-        "regirock", "regice", "registeel", "latias", "latios", 
-        "kyogre", "groudon", "rayquaza",
-        // Generation 4
-        "uxie", "mesprit", "azelf", "dialga", "palkia", "heatran", 
-        "regigigas", "giratina", "cresselia",
-        // Generation 5
-        "cobalion", "terrakion", "virizion", "tornadus", "thundurus", 
-        "reshiram", "zekrom", "landorus", "kyurem",
-        // Generation 6
-        "xerneas", "yveltal", "zygarde",
-        // Generation 7
-        "type-null", "silvally", "tapukoko", "tapulele", "tapubulu", "tapufini",
-        "cosmog", "cosmoem", "solgaleo", "lunala", "necrozma",
-        // Generation 8
-        "zacian", "zamazenta", "eternatus", "kubfu", "urshifu",
-        "regieleki", "regidrago", "glastrier", "spectrier", "calyrex",
-        // Generation 9
-        "wochien", "chienpao", "tinglu", "chiyu",
-        "koraidon", "miraidon", "okidogi", "munkidori", "fezandipiti",
-        "ogerpon", "terapagos"
-    );
-    
-    // All Mythical Pokémon
-    private static final List<String> MYTHICAL_POKEMON = List.of(
-        // Generation 1
-        "mew",
-        // Generation 2
-        "celebi",
-        // Generation 3
-        "jirachi", "deoxys",
-        // Generation 4
-        "phione", "manaphy", "darkrai", "shaymin", "arceus",
-        // Generation 5
-        "victini", "keldeo", "meloetta", "genesect",
-        // Generation 6
-        "diancie", "hoopa", "volcanion",
-        // Generation 7
-        "magearna", "marshadow", "zeraora",
-        // Generation 8
-        "meltan", "melmetal", "zarude",
-        // Generation 9
-        "pecharunt"
-    );
-    
-    // All Paradox Pokémon
-    private static final List<String> PARADOX_POKEMON = List.of(
-        // Scarlet Paradox (Past)
-        "greattusk", "screamtail", "brutebonnet", "fluttermane",
-        "slitherwing", "sandyshocks", "roaringmoon",
-        // Violet Paradox (Future)
-        "irontreads", "ironbundle", "ironhands", "ironjugulis",
-        "ironmoth", "ironthorns", "ironvaliant",
-        // Teal Mask / Indigo Disk
-        "walkingwake", "ironleaves", "gougingfire", "ragingbolt", "ironcrown", "ironboulder"
-    );
-    
-    private static List<String> allSpecialPokemon;
+    private static volatile SpeciesCatalog catalog = SpeciesCatalog.loadBuiltin();
+    
+    /**
+     * Get the active species catalog.
+     * Dense indices are only valid for the catalog they were obtained from.
+     */
+    public static SpeciesCatalog getCatalog() {
+        return catalog;
+    }
+    
+    /**
+     * Replace the active species catalog, e.g. after a datapack reload.
+     */
+    public static void setCatalog(SpeciesCatalog newCatalog) {
+        catalog = newCatalog;
+        CobblemonOrbs.LOGGER.info("Species catalog updated: {} species", newCatalog.size());
+    }
     
     /**
      * Get all Legendary Pokémon identifiers.
      */
     public static List<String> getLegendaryPokemon() {
-        return Collections.unmodifiableList(LEGENDARY_POKEMON);
+        return catalog.idsIn(OrbCategory.LEGENDARY);
     }
     
     /**
      * Get all Mythical Pokémon identifiers.
      */
     public static List<String> getMythicalPokemon() {
-        return Collections.unmodifiableList(MYTHICAL_POKEMON);
+        return catalog.idsIn(OrbCategory.MYTHICAL);
     }
     
     /**
      * Get all Paradox Pokémon identifiers.
      */
     public static List<String> getParadoxPokemon() {
-        return Collections.unmodifiableList(PARADOX_POKEMON);
+        return catalog.idsIn(OrbCategory.PARADOX);
     }
     
     /**
-     * Get all special Pokémon (Legendary + Mythical + Paradox).
+     * Get all special Pokémon (every species in the catalog).
      */
     public static List<String> getAllSpecialPokemon() {
-        if (allSpecialPokemon == null) {
-            allSpecialPokemon = new ArrayList<>();
-            allSpecialPokemon.addAll(LEGENDARY_POKEMON);
-            allSpecialPokemon.addAll(MYTHICAL_POKEMON);
-            allSpecialPokemon.addAll(PARADOX_POKEMON);
-            allSpecialPokemon = Collections.unmodifiableList(allSpecialPokemon);
-        }
-        return allSpecialPokemon;
+        return catalog.allIds();
+    }
+    
+    /**
+     * Get the dense species index of a Pokémon (case-insensitive).
+     * Indices run from 0 to getSpeciesCount() - 1 and can be used as array keys.
+     *
+     * @return The index, or -1 if the Pokémon is not a special Pokémon
+     */
+    public static int getSpeciesIndex(String pokemonId) {
+        return catalog.indexOf(pokemonId);
+    }
+    
+    /**
+     * Get the Pokémon identifier at a dense species index.
+     */
+    public static String getSpeciesId(int index) {
+        return catalog.idAt(index);
+    }
+    
+    /**
+     * Get the number of indexed species.
+     */
+    public static int getSpeciesCount() {
+        return catalog.size();
+    }
+    
+    /**
+     * Get the category of a Pokémon (case-insensitive).
+     *
+     * @return The category, or SPECIAL if the Pokémon is not indexed
+     */
+    public static OrbCategory getCategory(String pokemonId) {
+        SpeciesCatalog current = catalog;
+        int index = current.indexOf(pokemonId);
+        return index >= 0 ? current.categoryAt(index) : OrbCategory.SPECIAL;
+    }
+    
+    /**
+     * Get the category of the Pokémon at a dense species index.
+     */
+    public static OrbCategory getCategory(int index) {
+        return catalog.categoryAt(index);
     }
     
     /**
      * Check if a Pokémon is a Legendary.
      */
     public static boolean isLegendary(String pokemonId) {
-        return LEGENDARY_POKEMON.contains(pokemonId.toLowerCase());
+        return getCategory(pokemonId) == OrbCategory.LEGENDARY;
     }
     
     /**
      * Check if a Pokémon is a Mythical.
      */
     public static boolean isMythical(String pokemonId) {
-        return MYTHICAL_POKEMON.contains(pokemonId.toLowerCase());
+        return getCategory(pokemonId) == OrbCategory.MYTHICAL;
     }
     
     /**
      * Check if a Pokémon is a Paradox Pokémon.
      */
     public static boolean isParadox(String pokemonId) {
-        return PARADOX_POKEMON.contains(pokemonId.toLowerCase());
+        return getCategory(pokemonId) == OrbCategory.PARADOX;
     }
     
     /**
      * Get the total count of all special Pokémon.
      */
     public static int getTotalSpecialCount() {
-        return LEGENDARY_POKEMON.size() + MYTHICAL_POKEMON.size() + PARADOX_POKEMON.size();
+        return catalog.size();
     }
     
     /**
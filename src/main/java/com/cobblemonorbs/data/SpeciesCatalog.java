@@ -0,0 +1,186 @@
+package com.cobblemonorbs.data;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.item.api.OrbCategory;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable catalog of every species that has an orb: category, display name,
+ * texture, item ID and random-orb weight.
+ *
+ * The catalog JSON is parsed once into parallel arrays keyed by the dense index of a
+ * {@link SpeciesIndex}, so lookups at runtime never consult JSON. The built-in catalog
+ * ships at data/cobblemonorbs/species_catalog/default.json and can be extended or
+ * overridden by datapacks (see {@link SpeciesCatalogLoader}).
+ */
+public final class SpeciesCatalog {
+    
+    public static final String DIRECTORY = "species_catalog";
+    public static final String DEFAULT_TEXTURE = "orb_default";
+    
+    private static final String BUILTIN_PATH = "data/" + CobblemonOrbs.MOD_ID + "/" + DIRECTORY + "/default.json";
+    
+    private final SpeciesIndex index;
+    private final OrbCategory[] categories;
+    private final String[] displayNames;
+    private final String[] textures;
+    private final String[] itemIds;
+    private final double[] weights;
+    
+    private final List<String> allIds;
+    private final Map<OrbCategory, List<String>> idsByCategory;
+    
+    private SpeciesCatalog(List<Entry> entries) {
+        int size = entries.size();
+        List<String> ids = new ArrayList<>(size);
+        this.categories = new OrbCategory[size];
+        this.displayNames = new String[size];
+        this.textures = new String[size];
+        this.itemIds = new String[size];
+        this.weights = new double[size];
+        
+        Map<OrbCategory, List<String>> byCategory = new EnumMap<>(OrbCategory.class);
+        for (OrbCategory category : OrbCategory.values()) {
+            byCategory.put(category, new ArrayList<>());
+        }
+        
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            ids.add(entry.id());
+            categories[i] = entry.category();
+            displayNames[i] = entry.displayName();
+            textures[i] = entry.texture();
+            itemIds[i] = entry.itemId();
+            weights[i] = entry.weight();
+            byCategory.get(entry.category()).add(entry.id());
+        }
+        
+        this.index = new SpeciesIndex(ids);
+        this.allIds = List.copyOf(ids);
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+        this.idsByCategory = Collections.unmodifiableMap(byCategory);
+    }
+    
+    /**
+     * Creates a catalog from parsed entries. The dense index of each species is its position in the list.
+     */
+    public static SpeciesCatalog of(List<Entry> entries) {
+        return new SpeciesCatalog(entries);
+    }
+    
+    /**
+     * Loads the catalog bundled with the mod.
+     *
+     * @throws IllegalStateException if the bundled catalog is missing or invalid
+     */
+    public static SpeciesCatalog loadBuiltin() {
+        try (InputStream is = SpeciesCatalog.class.getClassLoader().getResourceAsStream(BUILTIN_PATH)) {
+            if (is == null) {
+                throw new IllegalStateException("Missing built-in species catalog: " + BUILTIN_PATH);
+            }
+            try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                return of(parseEntries(JsonParser.parseReader(reader)));
+            }
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid built-in species catalog: " + BUILTIN_PATH, e);
+        }
+    }
+    
+    /**
+     * Parses the "species" array of a catalog file.
+     */
+    public static List<Entry> parseEntries(JsonElement json) {
+        List<Entry> entries = new ArrayList<>();
+        for (JsonElement element : json.getAsJsonObject().getAsJsonArray("species")) {
+            entries.add(Entry.fromJson(element.getAsJsonObject()));
+        }
+        return entries;
+    }
+    
+    /**
+     * Get the dense index of a species (case-insensitive), or -1 if it is not in the catalog.
+     */
+    public int indexOf(String speciesId) {
+        return index.indexOf(speciesId);
+    }
+    
+    public int size() {
+        return categories.length;
+    }
+    
+    public String idAt(int index) {
+        return this.index.idAt(index);
+    }
+    
+    public OrbCategory categoryAt(int index) {
+        return categories[index];
+    }
+    
+    public String displayNameAt(int index) {
+        return displayNames[index];
+    }
+    
+    public String textureAt(int index) {
+        return textures[index];
+    }
+    
+    public String itemIdAt(int index) {
+        return itemIds[index];
+    }
+    
+    public double weightAt(int index) {
+        return weights[index];
+    }
+    
+    /**
+     * Get all species IDs in catalog order.
+     */
+    public List<String> allIds() {
+        return allIds;
+    }
+    
+    /**
+     * Get the species IDs of one category in catalog order.
+     */
+    public List<String> idsIn(OrbCategory category) {
+        return idsByCategory.get(category);
+    }
+    
+    /**
+     * A single catalog entry as written in JSON.
+     */
+    public record Entry(String id, OrbCategory category, String displayName, String texture, String itemId, double weight) {
+        
+        static Entry fromJson(JsonObject json) {
+            String id = json.get("id").getAsString();
+            OrbCategory category = json.has("category")
+                ? OrbCategory.fromId(json.get("category").getAsString()) : OrbCategory.SPECIAL;
+            String displayName = json.has("display_name")
+                ? json.get("display_name").getAsString() : PokemonDataManager.toDisplayName(id);
+            String texture = json.has("texture") ? json.get("texture").getAsString() : DEFAULT_TEXTURE;
+            String itemId = json.has("item") ? json.get("item").getAsString() : PokemonDataManager.toItemId(id);
+            double weight = json.has("weight") ? json.get("weight").getAsDouble() : 1.0;
+            
+            if (weight < 0 || Double.isNaN(weight)) {
+                CobblemonOrbs.LOGGER.warn("Ignoring invalid weight {} for species {}", weight, id);
+                weight = 1.0;
+            }
+            
+            return new Entry(id, category, displayName, texture, itemId, weight);
+        }
+    }
+}
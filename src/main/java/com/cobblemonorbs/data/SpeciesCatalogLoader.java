@@ -0,0 +1,69 @@
+package com.cobblemonorbs.data;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Loads the species catalog from data/<namespace>/species_catalog/*.json in all datapacks.
+ *
+ * The built-in catalog (cobblemonorbs:default) is applied first, then every other file in
+ * ID order. An entry with a known species ID replaces that species in place, a new ID is
+ * appended. Orb items are still registered from code, so species added here take part in
+ * categories, names, weights and random pools but do not get an orb item of their own.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public class SpeciesCatalogLoader extends SimpleJsonResourceReloadListener {
+    
+    private static final ResourceLocation BUILTIN = ResourceLocation.fromNamespaceAndPath(CobblemonOrbs.MOD_ID, "default");
+    // Built-in catalog first, then the rest by ID
+    private static final Comparator<ResourceLocation> LOAD_ORDER = Comparator
+        .comparing((ResourceLocation id) -> !id.equals(BUILTIN))
+        .thenComparing(Comparator.naturalOrder());
+    
+    public SpeciesCatalogLoader() {
+        super(new Gson(), SpeciesCatalog.DIRECTORY);
+    }
+    
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new SpeciesCatalogLoader());
+    }
+    
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> files, ResourceManager resourceManager, ProfilerFiller profiler) {
+        Map<String, SpeciesCatalog.Entry> merged = new LinkedHashMap<>();
+        
+        files.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(LOAD_ORDER))
+            .forEach(file -> {
+                try {
+                    for (SpeciesCatalog.Entry entry : SpeciesCatalog.parseEntries(file.getValue())) {
+                        merged.put(entry.id().toLowerCase(Locale.ROOT), entry);
+                    }
+                } catch (Exception e) {
+                    CobblemonOrbs.LOGGER.error("Failed to load species catalog: {}", file.getKey(), e);
+                }
+            });
+        
+        if (merged.isEmpty()) {
+            CobblemonOrbs.LOGGER.warn("No species catalog entries found in datapacks, keeping the current catalog");
+            return;
+        }
+        
+        PokemonDataManager.setCatalog(SpeciesCatalog.of(new ArrayList<>(merged.values())));
+    }
+}
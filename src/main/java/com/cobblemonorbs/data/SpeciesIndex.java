@@ -0,0 +1,105 @@
+package com.cobblemonorbs.data;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable hash index from species ID to a dense integer index.
+ * Lookups are case-insensitive for ASCII IDs and do not allocate, so they are
+ * cheap enough for hot paths. Other subsystems can use the dense index as an
+ * array key instead of hashing species names themselves.
+ */
+public final class SpeciesIndex {
+    
+    private final String[] ids;
+    // Open addressing table: slot -> dense index + 1, 0 marks an empty slot
+    private final int[] slots;
+    private final int mask;
+    
+    /**
+     * Builds the index. The dense index of each ID is its position in the list.
+     *
+     * @throws IllegalArgumentException if the list contains the same ID twice
+     */
+    public SpeciesIndex(List<String> speciesIds) {
+        this.ids = new String[speciesIds.size()];
+        
+        // Keep the load factor at or below 0.5
+        int capacity = Integer.highestOneBit(Math.max(4, speciesIds.size() * 2 - 1)) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        
+        for (int i = 0; i < ids.length; i++) {
+            String id = speciesIds.get(i).toLowerCase(Locale.ROOT);
+            if (indexOf(id) >= 0) {
+                throw new IllegalArgumentException("Duplicate species ID: " + id);
+            }
+            ids[i] = id;
+            
+            int slot = hash(id) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+    
+    /**
+     * Get the dense index of a species, ignoring ASCII case.
+     *
+     * @return The index, or -1 if the species is not in this index
+     */
+    public int indexOf(String speciesId) {
+        if (speciesId == null) {
+            return -1;
+        }
+        
+        int slot = hash(speciesId) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (equalsIgnoreAsciiCase(ids[entry - 1], speciesId)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    /**
+     * Get the lowercase species ID at a dense index.
+     */
+    public String idAt(int index) {
+        return ids[index];
+    }
+    
+    /**
+     * Get the number of species in this index.
+     */
+    public int size() {
+        return ids.length;
+    }
+    
+    private static int hash(String id) {
+        int h = 0;
+        for (int i = 0; i < id.length(); i++) {
+            h = 31 * h + toLowerAscii(id.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+    
+    private static boolean equalsIgnoreAsciiCase(String lowerId, String other) {
+        if (lowerId.length() != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerId.length(); i++) {
+            if (lowerId.charAt(i) != toLowerAscii(other.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
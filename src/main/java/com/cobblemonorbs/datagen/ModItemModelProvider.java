@@ -1,6 +1,8 @@
 package com.cobblemonorbs.datagen;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.data.SpeciesCatalog;
 import com.cobblemonorbs.registry.ModItems;
 import com.google.gson.JsonObject;
 import net.minecraft.data.CachedOutput;
@@ -77,47 +79,14 @@ public class ModItemModelProvider implements DataProvider {
     }
     
     /**
-     * Maps Pokémon IDs to their texture file names.
+     * Maps Pokémon IDs to their texture file names using the species catalog.
      * Some textures have different names than the Pokémon ID (e.g., ho-oh -> hoho).
-     * Falls back to orb_default if no specific texture exists.
+     * Falls back to orb_default if the species has no catalog entry.
      */
     private String getTextureNameForPokemon(String pokemonId) {
-        // Map of pokemonId -> texture name for textures with different names
-        return switch (pokemonId) {
-            case "ho-oh" -> "hoho";
-            case "moltres" -> "sulfura";
-            case "cobalion" -> "cobaltium";
-            case "terrakion" -> "terrakium";
-            case "virizion" -> "viridium";
-            case "thundurus" -> "fulguris";
-            case "landorus" -> "boreas";
-            case "type-null" -> "type0";
-            case "silvally" -> "silvalie";
-            case "tapukoko" -> "tokorico";
-            case "tapulele" -> "tokopiyon";
-            case "tapubulu" -> "tokotoro";
-            case "tapufini" -> "tokopisco";
-            case "cosmoem" -> "cosmovoum";
-            case "eternatus" -> "ethernatos";
-            case "urshifu" -> "shifours";
-            case "kubfu" -> "wushours";
-            case "enamorus" -> "enamorus";
-            // These have matching texture names
-            case "articuno", "zapdos", "mewtwo", "raikou", "entei", "suicune", "lugia",
-                 "regirock", "regice", "registeel", "latias", "latios", "kyogre", "groudon", "rayquaza",
-                 "uxie", "mesprit", "azelf", "dialga", "palkia", "heatran", "regigigas", "giratina", "cresselia",
-                 "reshiram", "zekrom", "kyurem", "tornadus",
-                 "xerneas", "yveltal", "zygarde", "cosmog", "solgaleo", "lunala", "necrozma",
-                 "zacian", "zamazenta", "regieleki", "regidrago",
-                 // Mythical Pokémon with matching texture names
-                 "mew", "celebi", "jirachi", "deoxys", "darkrai" -> pokemonId;
-            // Default fallback for textures not yet created
-            // add a case for all paradow orbs
-            case "orb_paradox_shiny", "orb_paradox_ultimate", "orb_paradox_ultimate_shiny", "orb_paradox" -> "orb_paradox";
-            case "orb_mythical_shiny", "orb_mythical_ultimate", "orb_mythical_ultimate_shiny", "orb_mythical" -> "orb_mythical";
-            case "orb_legendary_shiny", "orb_legendary_ultimate", "orb_legendary_ultimate_shiny", "orb_legendary" -> "orb_legendary";
-            default -> "orb_default";
-        };
+        SpeciesCatalog catalog = PokemonDataManager.getCatalog();
+        int index = catalog.indexOf(pokemonId);
+        return index >= 0 ? catalog.textureAt(index) : SpeciesCatalog.DEFAULT_TEXTURE;
     }
     
     private void simpleItem(DeferredItem<Item> item, String textureName) {
@@ -0,0 +1,140 @@
+package com.cobblemonorbs.item;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.ConfigFileManager;
+import com.cobblemonorbs.config.ItemConfigSnapshot;
+import com.cobblemonorbs.config.OrbConfig;
+import com.cobblemonorbs.item.api.SpawnSettings;
+import com.cobblemonorbs.item.base.BaseOrbItem;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.event.config.ModConfigEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Effective spawn settings for every orb, merged from three sources in order of precedence:
+ * the item's spawnSettings in its JSON config, the preset the orb was registered with, and
+ * the defaults in the TOML config, which fill in whatever the preset left at the built-in
+ * default. The TOML fixedLevel is the exception and pins the level of every orb.
+ *
+ * Settings are resolved for all orbs at once into an array indexed by {@link BaseOrbItem#getSettingsIndex()},
+ * and only again when the TOML config is reloaded or a new item config snapshot is published,
+ * so using an orb costs one array read.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public final class SpawnSettingsResolver {
+    
+    private static final List<BaseOrbItem> ORBS = new ArrayList<>();
+    
+    /**
+     * Resolved settings by orb index, for one item config snapshot.
+     */
+    private record Table(ItemConfigSnapshot configs, SpawnSettings[] settings) {
+    }
+    
+    private static volatile Table table;
+    
+    private SpawnSettingsResolver() {
+    }
+    
+    /**
+     * Adds an orb to the table. Called from the orb's constructor.
+     *
+     * @return The orb's index in the table
+     */
+    public static synchronized int register(BaseOrbItem orb) {
+        ORBS.add(orb);
+        table = null;
+        return ORBS.size() - 1;
+    }
+    
+    /**
+     * Get the effective spawn settings of the orb with the given index.
+     */
+    public static SpawnSettings get(int index) {
+        Table current = table;
+        if (current == null || current.configs() != ConfigFileManager.getItemConfigs()) {
+            current = resolveAll(false);
+        }
+        return current.settings()[index];
+    }
+    
+    @SubscribeEvent
+    public static void onConfigReloading(ModConfigEvent.Reloading event) {
+        if (event.getConfig().getSpec() == OrbConfig.SPEC) {
+            resolveAll(true);
+        }
+    }
+    
+    private static synchronized Table resolveAll(boolean force) {
+        // Keyed on the snapshot the settings were built from, so a table can never outlive it
+        ItemConfigSnapshot configs = ConfigFileManager.getItemConfigs();
+        Table current = table;
+        if (!force && current != null && current.configs() == configs) {
+            return current;
+        }
+        
+        SpawnSettings[] settings = new SpawnSettings[ORBS.size()];
+        for (int i = 0; i < settings.length; i++) {
+            BaseOrbItem orb = ORBS.get(i);
+            String itemId = BuiltInRegistries.ITEM.getKey(orb).getPath();
+            settings[i] = resolve(orb.getPresetSpawnSettings(), configs.get(itemId).spawnSettings());
+        }
+        
+        current = new Table(configs, settings);
+        table = current;
+        return current;
+    }
+    
+    /**
+     * Merges the TOML defaults and an item's overrides over its preset.
+     *
+     * @param item The item's spawnSettings from its JSON config, or null if it has none
+     * @return The preset itself if nothing overrides it
+     */
+    static SpawnSettings resolve(SpawnSettings preset, ConfigFileManager.ItemSpawnSettings item) {
+        int minLevel = preset.minLevel();
+        int maxLevel = preset.maxLevel();
+        int fixedLevel = OrbConfig.FIXED_SPAWN_LEVEL.get();
+        if (fixedLevel > 0) {
+            minLevel = fixedLevel;
+            maxLevel = fixedLevel;
+        }
+        
+        // The TOML defaults only replace values the preset left at the built-in default,
+        // so shiny orbs keep their guaranteed chance and orbs built with their own chance or radius keep it
+        boolean forceShiny = preset.forceShiny();
+        double shinyChance = forceShiny || preset.shinyChance() != SpawnSettings.DEFAULT.shinyChance()
+            ? preset.shinyChance()
+            : OrbConfig.DEFAULT_SHINY_CHANCE.get();
+        boolean forcePerfectIVs = preset.forcePerfectIVs();
+        int spawnRadius = preset.spawnRadius() != SpawnSettings.DEFAULT.spawnRadius()
+            ? preset.spawnRadius()
+            : OrbConfig.DEFAULT_SPAWN_RADIUS.get();
+        
+        // -1 and false in the item config mean "not overridden"
+        if (item != null) {
+            if (item.level() > 0) {
+                minLevel = Math.min(item.level(), 100);
+                maxLevel = minLevel;
+            }
+            if (item.shinyChance() >= 0) {
+                shinyChance = Math.min(item.shinyChance(), 1.0);
+            }
+            if (item.guaranteeShiny()) {
+                forceShiny = true;
+                shinyChance = 1.0;
+            }
+            if (item.perfectIVs()) {
+                forcePerfectIVs = true;
+            }
+        }
+        
+        SpawnSettings resolved = new SpawnSettings(minLevel, maxLevel, shinyChance, forceShiny, forcePerfectIVs,
+            spawnRadius);
+        return resolved.equals(preset) ? preset : resolved;
+    }
+}
@@ -12,11 +12,12 @@ public interface IOrbItem {
     
     /**
      * Called when the orb is used by a player.
+     * The spawn itself may complete on a later tick.
      * 
      * @param level The world/level
      * @param player The player using the orb
      * @param stack The item stack being used
-     * @return true if the orb was successfully used
+     * @return true if the orb was successfully used and should be consumed
      */
     boolean onOrbUse(Level level, Player player, ItemStack stack);
     
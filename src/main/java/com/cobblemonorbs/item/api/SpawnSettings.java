@@ -1,6 +1,8 @@
 package com.cobblemonorbs.item.api;
 
-import java.util.Random;
+import com.cobblemonorbs.util.OrbRandom;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Represents spawn settings for a Pokémon orb.
@@ -13,8 +15,6 @@ public record SpawnSettings(
     boolean forcePerfectIVs,
     int spawnRadius
 ) {
-    private static final Random RANDOM = new Random();
-    
     /**
      * Default spawn settings for standard orbs (random level 1-100).
      */
@@ -39,10 +39,17 @@ public record SpawnSettings(
      * Gets a random level between minLevel and maxLevel (inclusive).
      */
     public int getRandomLevel() {
+        return getRandomLevel(OrbRandom.current());
+    }
+    
+    /**
+     * Gets a random level between minLevel and maxLevel (inclusive) from the given generator.
+     */
+    public int getRandomLevel(RandomGenerator random) {
         if (minLevel == maxLevel) {
             return minLevel;
         }
-        return RANDOM.nextInt(maxLevel - minLevel + 1) + minLevel;
+        return random.nextInt(maxLevel - minLevel + 1) + minLevel;
     }
     
     /**
@@ -1,12 +1,22 @@
 package com.cobblemonorbs.item.base;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.item.SpawnSettingsResolver;
 import com.cobblemonorbs.item.api.IOrbItem;
 import com.cobblemonorbs.item.api.OrbCategory;
 import com.cobblemonorbs.item.api.SpawnSettings;
-import com.cobblemonorbs.pokemon.PokemonSpawnHandler;
+import com.cobblemonorbs.metrics.OrbMetrics;
+import com.cobblemonorbs.metrics.OrbUseEvent;
+import com.cobblemonorbs.metrics.SpawnOutcome;
+import com.cobblemonorbs.pokemon.SpawnQueue;
+import com.cobblemonorbs.pokemon.SpeciesValidator;
+import com.cobblemonorbs.util.OrbRandom;
 import net.minecraft.ChatFormatting;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -17,8 +27,12 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Rarity;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.common.util.FakePlayer;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * Base class for all orb items. Provides common functionality for orb usage and tooltips.
@@ -28,6 +42,11 @@ public abstract class BaseOrbItem extends Item implements IOrbItem {
     protected final String pokemonId;
     protected final OrbCategory category;
     protected final SpawnSettings spawnSettings;
+    private final int settingsIndex;
+    
+    private record TooltipLines(Language language, SpawnSettings settings, Object source, List<Component> lines) {}
+    
+    private volatile TooltipLines tooltipLines;
     
     public BaseOrbItem(String pokemonId, OrbCategory category, SpawnSettings spawnSettings) {
         super(new Item.Properties()
@@ -36,6 +55,7 @@ public abstract class BaseOrbItem extends Item implements IOrbItem {
         this.pokemonId = pokemonId;
         this.category = category;
         this.spawnSettings = spawnSettings;
+        this.settingsIndex = SpawnSettingsResolver.register(this);
     }
     
     public BaseOrbItem(String pokemonId, OrbCategory category) {
@@ -58,20 +78,15 @@ public abstract class BaseOrbItem extends Item implements IOrbItem {
         
         if (!level.isClientSide()) {
             if (onOrbUse(level, player, stack)) {
-                // Consume the orb on successful use
+                // Consume the orb as soon as the spawn is queued; it is refunded if the spawn fails
                 if (!player.getAbilities().instabuild) {
                     stack.shrink(1);
                 }
                 
-                // Play success sound
-                level.playSound(null, player.getX(), player.getY(), player.getZ(),
-                    SoundEvents.PLAYER_LEVELUP, SoundSource.PLAYERS, 1.0F, 1.0F);
-                
                 return InteractionResultHolder.success(stack);
             } else {
                 // Play fail sound
-                level.playSound(null, player.getX(), player.getY(), player.getZ(),
-                    SoundEvents.VILLAGER_NO, SoundSource.PLAYERS, 1.0F, 1.0F);
+                playResultSound(player, false);
                 
                 return InteractionResultHolder.fail(stack);
             }
@@ -80,21 +95,95 @@ public abstract class BaseOrbItem extends Item implements IOrbItem {
         return InteractionResultHolder.consume(stack);
     }
     
+    /**
+     * Queues the spawn for this orb. The result arrives later in {@link #onSpawnComplete}.
+     */
     @Override
     public boolean onOrbUse(Level level, Player player, ItemStack stack) {
-        String targetPokemon = getTargetPokemon();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return false;
+        }
+        
+        OrbUseEvent event = new OrbUseEvent();
+        event.begin();
+        
+        String itemId = BuiltInRegistries.ITEM.getKey(this).getPath();
+        OrbMetrics.recordUse(itemId);
+        
+        String targetPokemon = getTargetPokemon(OrbRandom.forLevel(level));
         if (targetPokemon == null || targetPokemon.isEmpty()) {
             CobblemonOrbs.LOGGER.error("Failed to determine target Pokémon for orb: {}", pokemonId);
+            commitUseEvent(event, itemId, null, "no target");
             return false;
         }
         
-        return PokemonSpawnHandler.spawnPokemon(level, player, targetPokemon, spawnSettings);
+        // Species that failed validation on server start are rejected before touching Cobblemon
+        if (!SpeciesValidator.isSpawnable(targetPokemon)) {
+            player.sendSystemMessage(Component.translatable("message.cobblemonorbs.orb_unavailable"));
+            OrbMetrics.recordOutcome(SpawnOutcome.UNKNOWN_SPECIES);
+            commitUseEvent(event, itemId, targetPokemon, SpawnOutcome.UNKNOWN_SPECIES.getDisplayName());
+            return false;
+        }
+        
+        // The player object may be replaced by death or respawn before the spawn finishes, so keep its UUID
+        UUID playerId = player.getUUID();
+        ItemStack refund = player.getAbilities().instabuild ? null : stack.copyWithCount(1);
+        boolean queued = SpawnQueue.submit(serverLevel, player, itemId, targetPokemon, getSpawnSettings(),
+            success -> onSpawnComplete(serverLevel.getServer(), playerId, player, success, refund));
+        
+        if (!queued) {
+            player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawn_busy"));
+        }
+        commitUseEvent(event, itemId, targetPokemon, queued ? "queued" : SpawnOutcome.QUEUE_FULL.getDisplayName());
+        return queued;
+    }
+    
+    private static void commitUseEvent(OrbUseEvent event, String itemId, String species, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.itemId = itemId;
+            event.species = species;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Called on the server thread once a queued spawn has finished.
+     * Gives the orb back to the player if the spawn failed and it was consumed on use;
+     * if the player has left, it is dropped where they used it.
+     *
+     * @param usedBy The player object at use time, only used when the player has left
+     * @param refund The consumed orb, or null if nothing was consumed
+     */
+    protected void onSpawnComplete(MinecraftServer server, UUID playerId, Player usedBy, boolean success,
+                                   ItemStack refund) {
+        // Fake players are never in the player list, but are never replaced either
+        Player player = usedBy instanceof FakePlayer ? usedBy : server.getPlayerList().getPlayer(playerId);
+        if (!success && refund != null) {
+            if (player == null) {
+                usedBy.drop(refund, false);
+            } else if (!player.getInventory().add(refund)) {
+                player.drop(refund, false);
+            }
+        }
+        
+        if (player != null) {
+            playResultSound(player, success);
+        }
+    }
+    
+    private static void playResultSound(Player player, boolean success) {
+        player.level().playSound(null, player.getX(), player.getY(), player.getZ(),
+            success ? SoundEvents.PLAYER_LEVELUP : SoundEvents.VILLAGER_NO, SoundSource.PLAYERS, 1.0F, 1.0F);
     }
     
     /**
      * Gets the actual Pokémon to spawn. Override for random selection.
+     *
+     * @param random The generator to draw from for random selection
      */
-    protected String getTargetPokemon() {
+    protected String getTargetPokemon(RandomGenerator random) {
         return pokemonId;
     }
     
@@ -110,47 +199,106 @@ public abstract class BaseOrbItem extends Item implements IOrbItem {
     
     @Override
     public boolean isShinyOrb() {
-        return spawnSettings.forceShiny();
+        return getSpawnSettings().forceShiny();
     }
     
     @Override
     public boolean isPerfectIVOrb() {
-        return spawnSettings.forcePerfectIVs();
+        return getSpawnSettings().forcePerfectIVs();
     }
     
+    /**
+     * Get the effective spawn settings: the preset with the config defaults and item overrides applied.
+     */
     public SpawnSettings getSpawnSettings() {
+        return SpawnSettingsResolver.get(settingsIndex);
+    }
+    
+    /**
+     * Get the spawn settings this orb was registered with, before any config is applied.
+     */
+    public SpawnSettings getPresetSpawnSettings() {
         return spawnSettings;
     }
     
+    /**
+     * Get this orb's index in the {@link SpawnSettingsResolver} table.
+     */
+    public int getSettingsIndex() {
+        return settingsIndex;
+    }
+    
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltipComponents, TooltipFlag tooltipFlag) {
         super.appendHoverText(stack, context, tooltipComponents, tooltipFlag);
+        tooltipComponents.addAll(getTooltipLines());
+    }
+    
+    /**
+     * Get this orb's tooltip lines, built once and reused until the language, the effective
+     * spawn settings or the {@link #getTooltipSource() tooltip source} changes.
+     */
+    protected final List<Component> getTooltipLines() {
+        Language language = Language.getInstance();
+        SpawnSettings settings = getSpawnSettings();
+        Object source = getTooltipSource();
         
+        TooltipLines current = tooltipLines;
+        if (current == null || current.language() != language || current.settings() != settings
+                || current.source() != source) {
+            List<Component> lines = new ArrayList<>();
+            buildTooltip(lines, settings);
+            current = new TooltipLines(language, settings, source, List.copyOf(lines));
+            tooltipLines = current;
+        }
+        return current.lines();
+    }
+    
+    /**
+     * Get any other object the tooltip is built from; the tooltip is rebuilt when it is replaced.
+     */
+    protected Object getTooltipSource() {
+        return null;
+    }
+    
+    /**
+     * Adds the tooltip lines for this orb.
+     */
+    protected void buildTooltip(List<Component> lines, SpawnSettings settings) {
         // Add category info
-        tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.category", 
+        lines.add(Component.translatable("tooltip.cobblemonorbs.category", 
             category.getDisplayName()).withStyle(ChatFormatting.GRAY));
         
         // Add spawn level range info
-        tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.level_range", 
-            spawnSettings.minLevel(), spawnSettings.maxLevel()).withStyle(ChatFormatting.BLUE));
+        lines.add(Component.translatable("tooltip.cobblemonorbs.level_range", 
+            settings.minLevel(), settings.maxLevel()).withStyle(ChatFormatting.BLUE));
         
-        if (spawnSettings.forceShiny()) {
-            tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.shiny")
+        if (settings.forceShiny()) {
+            lines.add(Component.translatable("tooltip.cobblemonorbs.shiny")
                 .withStyle(ChatFormatting.GOLD));
         }
         
-        if (spawnSettings.forcePerfectIVs()) {
-            tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.perfect_ivs")
+        if (settings.forcePerfectIVs()) {
+            lines.add(Component.translatable("tooltip.cobblemonorbs.perfect_ivs")
                 .withStyle(ChatFormatting.LIGHT_PURPLE));
         }
         
+        appendSpawnDetails(lines);
+        
         // Usage instruction
-        tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.use_hint")
+        lines.add(Component.translatable("tooltip.cobblemonorbs.use_hint")
             .withStyle(ChatFormatting.DARK_GRAY, ChatFormatting.ITALIC));
     }
     
+    /**
+     * Adds tooltip lines that come before the usage hint. Nothing by default.
+     */
+    protected void appendSpawnDetails(List<Component> lines) {
+    }
+    
     @Override
     public boolean isFoil(ItemStack stack) {
-        return spawnSettings.forceShiny() || spawnSettings.forcePerfectIVs();
+        SpawnSettings settings = getSpawnSettings();
+        return settings.forceShiny() || settings.forcePerfectIVs();
     }
 }
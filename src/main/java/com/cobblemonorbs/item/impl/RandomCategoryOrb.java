@@ -1,25 +1,35 @@
 package com.cobblemonorbs.item.impl;
 
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.ConfigFileManager;
+import com.cobblemonorbs.config.ItemConfigSnapshot;
 import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.data.SpeciesCatalog;
 import com.cobblemonorbs.item.api.OrbCategory;
 import com.cobblemonorbs.item.api.SpawnSettings;
 import com.cobblemonorbs.item.base.BaseOrbItem;
+import com.cobblemonorbs.pokemon.SpeciesValidator;
+import com.cobblemonorbs.util.AliasSampler;
+import com.cobblemonorbs.util.OrbUtils;
 import net.minecraft.ChatFormatting;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.TooltipFlag;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 
 /**
  * An orb that spawns a random Pokémon from a specified category.
  * Categories include: all legendaries/mythicals/paradox, only legendaries, only mythicals, only paradox.
+ * Species are drawn by weight (catalog weight or the item config "weights" override) with an alias table.
  */
 public class RandomCategoryOrb extends BaseOrbItem {
     
-    private static final Random RANDOM = new Random();
-    
     public enum SelectionCategory {
         ALL("all", "All Legendary/Mythical/Paradox"),
         LEGENDARY_ONLY("legendary", "Legendary"),
@@ -43,39 +53,124 @@ public class RandomCategoryOrb extends BaseOrbItem {
         }
     }
     
+    // Species listed with their odds in the tooltip
+    private static final int MAX_ODDS_LINES = 5;
+    
     private final SelectionCategory selectionCategory;
     
+    // Candidates and sampler for the current catalog, item configs and species validation, rebuilt when any changes
+    private volatile Pool pool;
+    
     public RandomCategoryOrb(SelectionCategory selectionCategory, SpawnSettings settings) {
         super(selectionCategory.getId() + "_random", OrbCategory.RANDOM, settings);
         this.selectionCategory = selectionCategory;
     }
     
     @Override
-    protected String getTargetPokemon() {
+    protected String getTargetPokemon(RandomGenerator random) {
+        Pool current = getPool();
+        if (current.sampler() == null) {
+            return "pikachu"; // Fallback
+        }
+        
+        return current.candidates().get(current.sampler().sample(random));
+    }
+    
+    private Pool getPool() {
+        SpeciesCatalog catalog = PokemonDataManager.getCatalog();
+        ItemConfigSnapshot configs = ConfigFileManager.getItemConfigs();
+        BitSet unresolved = SpeciesValidator.getUnresolved(catalog);
+        
+        Pool current = pool;
+        if (current == null || current.catalog() != catalog || current.configs() != configs
+                || current.unresolved() != unresolved) {
+            current = buildPool(catalog, configs, unresolved);
+            pool = current;
+        }
+        return current;
+    }
+    
+    private Pool buildPool(SpeciesCatalog catalog, ItemConfigSnapshot configs, BitSet unresolved) {
         List<String> candidates = switch (selectionCategory) {
-            case ALL -> PokemonDataManager.getAllSpecialPokemon();
-            case LEGENDARY_ONLY -> PokemonDataManager.getLegendaryPokemon();
-            case MYTHICAL_ONLY -> PokemonDataManager.getMythicalPokemon();
-            case PARADOX_ONLY -> PokemonDataManager.getParadoxPokemon();
+            case ALL -> catalog.allIds();
+            case LEGENDARY_ONLY -> catalog.idsIn(OrbCategory.LEGENDARY);
+            case MYTHICAL_ONLY -> catalog.idsIn(OrbCategory.MYTHICAL);
+            case PARADOX_ONLY -> catalog.idsIn(OrbCategory.PARADOX);
         };
         
-        if (candidates.isEmpty()) {
-            return "pikachu"; // Fallback
+        // Catalog weight, unless this item's config overrides it; species Cobblemon does not know are never drawn
+        Map<String, Double> overrides = configs.get(BuiltInRegistries.ITEM.getKey(this).getPath()).weights();
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            String speciesId = candidates.get(i);
+            int index = catalog.indexOf(speciesId);
+            if (unresolved.get(index)) {
+                continue;
+            }
+            Double override = overrides.get(speciesId);
+            weights[i] = override != null ? override : catalog.weightAt(index);
+            total += weights[i];
+        }
+        
+        if (total <= 0) {
+            CobblemonOrbs.LOGGER.warn("Random orb {} has no species with a positive weight", selectionCategory.getId());
+            return new Pool(catalog, configs, unresolved, candidates, weights, total, null);
         }
         
-        return candidates.get(RANDOM.nextInt(candidates.size()));
+        return new Pool(catalog, configs, unresolved, candidates, weights, total, AliasSampler.of(weights));
+    }
+    
+    @Override
+    protected Object getTooltipSource() {
+        // Rebuilt with the pool, so the odds follow catalog and config reloads
+        return getPool();
     }
     
     @Override
-    public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltipComponents, TooltipFlag tooltipFlag) {
-        // Add random selection info before calling super
-        tooltipComponents.add(Component.translatable("tooltip.cobblemonorbs.random", 
+    protected void buildTooltip(List<Component> lines, SpawnSettings settings) {
+        // Random selection info comes first
+        lines.add(Component.translatable("tooltip.cobblemonorbs.random", 
             selectionCategory.getDisplayName()).withStyle(ChatFormatting.YELLOW));
         
-        super.appendHoverText(stack, context, tooltipComponents, tooltipFlag);
+        super.buildTooltip(lines, settings);
+    }
+    
+    @Override
+    protected void appendSpawnDetails(List<Component> lines) {
+        Pool current = getPool();
+        if (current.total() <= 0) {
+            return;
+        }
+        
+        // Most likely species first
+        Integer[] order = new Integer[current.candidates().size()];
+        int possible = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (current.weights()[i] > 0) {
+                order[possible++] = i;
+            }
+        }
+        Arrays.sort(order, 0, possible, Comparator.comparingDouble((Integer i) -> current.weights()[i]).reversed());
+        
+        lines.add(Component.translatable("tooltip.cobblemonorbs.pool", possible).withStyle(ChatFormatting.GRAY));
+        int shown = Math.min(possible, MAX_ODDS_LINES);
+        for (int i = 0; i < shown; i++) {
+            int candidate = order[i];
+            String odds = String.format(Locale.ROOT, "%.1f%%", current.weights()[candidate] * 100 / current.total());
+            lines.add(Component.translatable("tooltip.cobblemonorbs.odds",
+                OrbUtils.formatPokemonName(current.candidates().get(candidate)), odds).withStyle(ChatFormatting.DARK_AQUA));
+        }
+        if (possible > shown) {
+            lines.add(Component.translatable("tooltip.cobblemonorbs.odds_more", possible - shown)
+                .withStyle(ChatFormatting.DARK_AQUA));
+        }
     }
     
     public SelectionCategory getSelectionCategory() {
         return selectionCategory;
     }
+    
+    private record Pool(SpeciesCatalog catalog, ItemConfigSnapshot configs, BitSet unresolved, List<String> candidates,
+                        double[] weights, double total, AliasSampler sampler) {}
 }
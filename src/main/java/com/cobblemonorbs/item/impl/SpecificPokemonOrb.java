@@ -4,6 +4,8 @@ import com.cobblemonorbs.item.api.OrbCategory;
 import com.cobblemonorbs.item.api.SpawnSettings;
 import com.cobblemonorbs.item.base.BaseOrbItem;
 
+import java.util.random.RandomGenerator;
+
 /**
  * A specific orb that spawns a single, predetermined Pokémon.
  * Used for individual Legendary, Mythical, and Paradox Pokémon orbs.
@@ -19,7 +21,7 @@ public class SpecificPokemonOrb extends BaseOrbItem {
     }
     
     @Override
-    protected String getTargetPokemon() {
+    protected String getTargetPokemon(RandomGenerator random) {
         return pokemonId;
     }
 }
@@ -0,0 +1,52 @@
+package com.cobblemonorbs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for loading, reloading or exporting config files.
+ */
+@Name("cobblemonorbs.ConfigLoad")
+@Label("Config Load")
+@Description("Loading, reloading or exporting the orb config files")
+@Category({"Cobblemon Orbs", "Config"})
+@Enabled(false)
+@StackTrace(false)
+public class ConfigLoadEvent extends Event {
+    
+    @Label("Operation")
+    public String operation;
+    
+    @Label("Entries")
+    public int entries;
+    
+    @Label("Outcome")
+    public String outcome;
+    
+    /**
+     * Creates and begins an event for an operation.
+     */
+    public static ConfigLoadEvent start(String operation) {
+        ConfigLoadEvent event = new ConfigLoadEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Ends the operation and commits the event if a recording wants it.
+     */
+    public void finish(int entries, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.entries = entries;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
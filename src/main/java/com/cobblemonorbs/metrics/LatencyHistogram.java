@@ -0,0 +1,83 @@
+package com.cobblemonorbs.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds with power-of-two buckets.
+ * Recording is a bucket index computation plus two LongAdder increments, so it is
+ * cheap enough for the server thread; percentiles are estimated from bucket bounds.
+ */
+public final class LatencyHistogram {
+    
+    // Bucket i holds durations in [2^i, 2^(i+1)) ns; bucket 0 also holds 0
+    private static final int BUCKETS = 64;
+    
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+    
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[63 - Long.numberOfLeadingZeros(value | 1)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+    
+    public long count() {
+        return count.sum();
+    }
+    
+    public long meanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / n;
+    }
+    
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+    
+    /**
+     * Estimates a percentile as the upper bound of the bucket it falls into.
+     *
+     * @param percentile Between 0 and 100
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1, maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+    
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
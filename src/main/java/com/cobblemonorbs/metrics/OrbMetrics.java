@@ -0,0 +1,85 @@
+package com.cobblemonorbs.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process metrics for the orb subsystem, shown by /cobblemonorbs stats.
+ * All counters are LongAdder based, so recording from the server thread or
+ * config loader threads never contends on a shared value.
+ */
+public final class OrbMetrics {
+    
+    private static final Map<String, LongAdder> USES_BY_ITEM = new ConcurrentHashMap<>();
+    private static final LongAdder[] OUTCOMES = new LongAdder[SpawnOutcome.values().length];
+    
+    /** Time spent on one spawn: position search, entity creation and adding it to the level */
+    public static final LatencyHistogram SPAWN_TIME = new LatencyHistogram();
+    /** Time from using an orb until its queued spawn is processed */
+    public static final LatencyHistogram QUEUE_WAIT = new LatencyHistogram();
+    /** Duration of config file (re)loads */
+    public static final LatencyHistogram CONFIG_RELOAD = new LatencyHistogram();
+    
+    private static final LongAdder CONDITION_EVALUATIONS = new LongAdder();
+    
+    private static volatile long startedMillis = System.currentTimeMillis();
+    
+    static {
+        for (int i = 0; i < OUTCOMES.length; i++) {
+            OUTCOMES[i] = new LongAdder();
+        }
+    }
+    
+    private OrbMetrics() {
+    }
+    
+    public static void recordUse(String itemId) {
+        USES_BY_ITEM.computeIfAbsent(itemId, id -> new LongAdder()).increment();
+    }
+    
+    public static void recordOutcome(SpawnOutcome outcome) {
+        OUTCOMES[outcome.ordinal()].increment();
+    }
+    
+    public static void recordConditionEvaluation() {
+        CONDITION_EVALUATIONS.increment();
+    }
+    
+    /**
+     * Get orb uses per item ID, sorted by ID.
+     */
+    public static Map<String, Long> getUsesByItem() {
+        Map<String, Long> uses = new TreeMap<>();
+        USES_BY_ITEM.forEach((itemId, count) -> uses.put(itemId, count.sum()));
+        return uses;
+    }
+    
+    public static long getOutcomeCount(SpawnOutcome outcome) {
+        return OUTCOMES[outcome.ordinal()].sum();
+    }
+    
+    public static long getConditionEvaluations() {
+        return CONDITION_EVALUATIONS.sum();
+    }
+    
+    /**
+     * Get the time since the metrics were started or last reset, in milliseconds.
+     */
+    public static long getUptimeMillis() {
+        return System.currentTimeMillis() - startedMillis;
+    }
+    
+    public static void reset() {
+        USES_BY_ITEM.clear();
+        for (LongAdder outcome : OUTCOMES) {
+            outcome.reset();
+        }
+        SPAWN_TIME.reset();
+        QUEUE_WAIT.reset();
+        CONFIG_RELOAD.reset();
+        CONDITION_EVALUATIONS.reset();
+        startedMillis = System.currentTimeMillis();
+    }
+}
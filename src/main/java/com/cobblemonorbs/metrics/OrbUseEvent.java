@@ -0,0 +1,30 @@
+package com.cobblemonorbs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a player using an orb (BaseOrbItem.use).
+ */
+@Name("cobblemonorbs.OrbUse")
+@Label("Orb Use")
+@Description("A player used an orb; outcome is whether the spawn was queued")
+@Category({"Cobblemon Orbs", "Spawning"})
+@Enabled(false)
+@StackTrace(false)
+public class OrbUseEvent extends Event {
+    
+    @Label("Item")
+    public String itemId;
+    
+    @Label("Species")
+    public String species;
+    
+    @Label("Outcome")
+    public String outcome;
+}
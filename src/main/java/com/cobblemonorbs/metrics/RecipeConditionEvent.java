@@ -0,0 +1,27 @@
+package com.cobblemonorbs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for evaluating the configurable recipe condition.
+ */
+@Name("cobblemonorbs.RecipeCondition")
+@Label("Recipe Condition")
+@Description("Evaluation of the cobblemonorbs:configurable recipe condition")
+@Category({"Cobblemon Orbs", "Config"})
+@Enabled(false)
+@StackTrace(false)
+public class RecipeConditionEvent extends Event {
+    
+    @Label("Item")
+    public String itemId;
+    
+    @Label("Outcome")
+    public String outcome;
+}
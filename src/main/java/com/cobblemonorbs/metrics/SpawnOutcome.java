@@ -0,0 +1,29 @@
+package com.cobblemonorbs.metrics;
+
+/**
+ * How an orb spawn ended.
+ */
+public enum SpawnOutcome {
+    SUCCESS("success"),
+    UNKNOWN_SPECIES("unknown species"),
+    REFLECTION_ERROR("reflection error"),
+    NO_POSITION("no position"),
+    ENTITY_REJECTED("entity rejected"),
+    PLAYER_LEFT("player left"),
+    CANCELLED("cancelled"),
+    QUEUE_FULL("queue full");
+    
+    private final String displayName;
+    
+    SpawnOutcome(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cobblemonorbs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one phase of a spawn: species, pokemon (including shininess and IVs), entity or add.
+ */
+@Name("cobblemonorbs.SpawnPhase")
+@Label("Spawn Phase")
+@Description("One phase of spawning a Pokémon from an orb")
+@Category({"Cobblemon Orbs", "Spawning"})
+@Enabled(false)
+@StackTrace(false)
+public class SpawnPhaseEvent extends Event {
+    
+    @Label("Item")
+    public String itemId;
+    
+    @Label("Species")
+    public String species;
+    
+    @Label("Phase")
+    public String phase;
+    
+    @Label("Outcome")
+    public String outcome;
+    
+    /**
+     * Creates and begins an event for a phase.
+     *
+     * @param itemId The orb that caused the spawn, or null if it was not spawned from an orb
+     */
+    public static SpawnPhaseEvent start(String itemId, String species, String phase) {
+        SpawnPhaseEvent event = new SpawnPhaseEvent();
+        event.itemId = itemId;
+        event.species = species;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Ends the phase and commits the event if a recording wants it.
+     */
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Cached bridge to the parts of the Cobblemon API used for spawning.
+ *
+ * Cobblemon cannot be called directly because of mapping differences, so every
+ * class, method and constructor is looked up once when this class is initialized
+ * and kept as a static final {@link MethodHandle}. The spawn path then only invokes
+ * the handles and never performs a reflective lookup itself.
+ */
+public final class CobblemonBridge {
+    
+    private static final String POKEMON_SPECIES_CLASS = "com.cobblemon.mod.common.api.pokemon.PokemonSpecies";
+    private static final String SPECIES_CLASS = "com.cobblemon.mod.common.pokemon.Species";
+    private static final String POKEMON_CLASS = "com.cobblemon.mod.common.pokemon.Pokemon";
+    private static final String POKEMON_ENTITY_CLASS = "com.cobblemon.mod.common.entity.pokemon.PokemonEntity";
+    private static final String COBBLEMON_ENTITIES_CLASS = "com.cobblemon.mod.common.CobblemonEntities";
+    private static final String STATS_CLASS = "com.cobblemon.mod.common.api.pokemon.stats.Stats";
+    private static final String STAT_CLASS = "com.cobblemon.mod.common.api.pokemon.stats.Stat";
+    
+    private static final String[] IV_STAT_NAMES = {"HP", "ATTACK", "DEFENCE", "SPECIAL_ATTACK", "SPECIAL_DEFENCE", "SPEED"};
+    
+    /** (String) -> Species, bound to PokemonSpecies.INSTANCE */
+    private static final MethodHandle GET_SPECIES_BY_NAME;
+    /** (Species, int) -> Pokemon */
+    private static final MethodHandle CREATE_POKEMON;
+    /** (Pokemon, boolean) -> void */
+    private static final MethodHandle SET_SHINY;
+    /** (Level, Pokemon) -> PokemonEntity, bound to CobblemonEntities.POKEMON */
+    private static final MethodHandle NEW_POKEMON_ENTITY;
+    /** (Pokemon) -> void, Pokemon.setIV bound to every stat in {@link #IV_STAT_NAMES} and 31 */
+    private static final MethodHandle SET_PERFECT_IVS;
+    
+    private static final Throwable LINK_FAILURE;
+    
+    static {
+        MethodHandle getSpeciesByName = null;
+        MethodHandle createPokemon = null;
+        MethodHandle setShiny = null;
+        MethodHandle newPokemonEntity = null;
+        MethodHandle setPerfectIVs = null;
+        Throwable failure = null;
+        
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            
+            Class<?> pokemonSpeciesClass = Class.forName(POKEMON_SPECIES_CLASS);
+            Class<?> speciesClass = Class.forName(SPECIES_CLASS);
+            Class<?> pokemonClass = Class.forName(POKEMON_CLASS);
+            Class<?> pokemonEntityClass = Class.forName(POKEMON_ENTITY_CLASS);
+            Class<?> cobblemonEntitiesClass = Class.forName(COBBLEMON_ENTITIES_CLASS);
+            Class<?> statsClass = Class.forName(STATS_CLASS);
+            Class<?> statClass = Class.forName(STAT_CLASS);
+            
+            Object speciesRegistry = pokemonSpeciesClass.getField("INSTANCE").get(null);
+            getSpeciesByName = lookup.unreflect(pokemonSpeciesClass.getMethod("getByName", String.class))
+                .bindTo(speciesRegistry)
+                .asType(MethodType.methodType(Object.class, String.class));
+            
+            createPokemon = lookup.unreflect(speciesClass.getMethod("create", int.class))
+                .asType(MethodType.methodType(Object.class, Object.class, int.class));
+            
+            setShiny = lookup.unreflect(pokemonClass.getMethod("setShiny", boolean.class))
+                .asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            
+            MethodHandle setIV = lookup.unreflect(pokemonClass.getMethod("setIV", statClass, int.class))
+                .asType(MethodType.methodType(void.class, Object.class, Object.class, int.class));
+            
+            // Constructor signature: PokemonEntity(Level, Pokemon, EntityType)
+            Object pokemonEntityType = cobblemonEntitiesClass.getField("POKEMON").get(null);
+            Constructor<?> entityConstructor = pokemonEntityClass.getConstructor(
+                Level.class, pokemonClass, EntityType.class);
+            newPokemonEntity = MethodHandles.insertArguments(lookup.unreflectConstructor(entityConstructor), 2, pokemonEntityType)
+                .asType(MethodType.methodType(Entity.class, Level.class, Object.class));
+            
+            // One handle that runs setIV(stat, 31) for each stat in turn
+            setPerfectIVs = MethodHandles.empty(MethodType.methodType(void.class, Object.class));
+            for (String statName : IV_STAT_NAMES) {
+                Object stat = statsClass.getField(statName).get(null);
+                setPerfectIVs = MethodHandles.foldArguments(setPerfectIVs, MethodHandles.insertArguments(setIV, 1, stat, 31));
+            }
+        } catch (Throwable t) {
+            failure = t;
+        }
+        
+        GET_SPECIES_BY_NAME = getSpeciesByName;
+        CREATE_POKEMON = createPokemon;
+        SET_SHINY = setShiny;
+        NEW_POKEMON_ENTITY = newPokemonEntity;
+        SET_PERFECT_IVS = setPerfectIVs;
+        LINK_FAILURE = failure;
+    }
+    
+    private CobblemonBridge() {
+    }
+    
+    /**
+     * Forces the bridge to resolve and fails loudly if the installed Cobblemon
+     * does not expose the expected API. Called once on server start.
+     *
+     * @throws IllegalStateException if any class, method or field could not be bound
+     */
+    public static void bind() {
+        if (LINK_FAILURE instanceof ClassNotFoundException) {
+            throw new IllegalStateException("Cobblemon not found! Make sure Cobblemon is installed.", LINK_FAILURE);
+        }
+        if (LINK_FAILURE != null) {
+            throw new IllegalStateException("Installed Cobblemon version does not match the API expected by "
+                + CobblemonOrbs.MOD_ID + ": " + LINK_FAILURE, LINK_FAILURE);
+        }
+        CobblemonOrbs.LOGGER.info("Cobblemon spawn API bound");
+    }
+    
+    /**
+     * Looks up a species by its Cobblemon name.
+     *
+     * @return The Species instance, or null if Cobblemon does not know the name
+     */
+    public static Object getSpecies(String name) {
+        try {
+            return (Object) GET_SPECIES_BY_NAME.invokeExact(name);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    /**
+     * Creates a new Pokemon of the given species at the given level.
+     */
+    public static Object createPokemon(Object species, int level) {
+        try {
+            return (Object) CREATE_POKEMON.invokeExact(species, level);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    /**
+     * Sets the shiny flag on a Pokemon.
+     */
+    public static void setShiny(Object pokemon, boolean shiny) {
+        try {
+            SET_SHINY.invokeExact(pokemon, shiny);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    /**
+     * Sets all six IVs of a Pokemon to 31.
+     */
+    public static void setPerfectIVs(Object pokemon) {
+        try {
+            SET_PERFECT_IVS.invokeExact(pokemon);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    /**
+     * Builds one (Pokemon) -> void handle that applies the given fixed modifiers.
+     * With neither modifier it does nothing.
+     */
+    public static MethodHandle modifiers(boolean shiny, boolean perfectIVs) {
+        MethodHandle modifiers = MethodHandles.empty(MethodType.methodType(void.class, Object.class));
+        if (perfectIVs) {
+            modifiers = MethodHandles.foldArguments(modifiers, SET_PERFECT_IVS);
+        }
+        if (shiny) {
+            modifiers = MethodHandles.foldArguments(modifiers, MethodHandles.insertArguments(SET_SHINY, 1, true));
+        }
+        return modifiers;
+    }
+    
+    /**
+     * Applies a handle from {@link #modifiers} to a Pokemon.
+     */
+    public static void applyModifiers(MethodHandle modifiers, Object pokemon) {
+        try {
+            modifiers.invokeExact(pokemon);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    /**
+     * Wraps a Pokemon in a new PokemonEntity for the given level.
+     * The entity still has to be positioned and added to the level.
+     */
+    public static Entity createEntity(Level level, Object pokemon) {
+        try {
+            return (Entity) NEW_POKEMON_ENTITY.invokeExact(level, pokemon);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+    
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        if (t instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Cobblemon call failed", t);
+    }
+}
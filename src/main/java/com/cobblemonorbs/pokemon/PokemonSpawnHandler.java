@@ -1,15 +1,22 @@
 package com.cobblemonorbs.pokemon;
 
 import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.audit.SpawnAuditLog;
+import com.cobblemonorbs.config.OrbConfig;
 import com.cobblemonorbs.item.api.SpawnSettings;
-import net.minecraft.core.BlockPos;
+import com.cobblemonorbs.metrics.OrbMetrics;
+import com.cobblemonorbs.metrics.SpawnOutcome;
+import com.cobblemonorbs.metrics.SpawnPhaseEvent;
+import com.cobblemonorbs.util.OrbRandom;
+import com.cobblemonorbs.util.OrbUtils;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Handles the spawning of Pokémon from orbs using the Cobblemon API.
@@ -20,10 +27,38 @@ import java.util.Random;
  */
 public class PokemonSpawnHandler {
     
-    private static final Random RANDOM = new Random();
+    /**
+     * A Pokémon entity that has been created and positioned but not yet added to its level.
+     * If preparing failed, entity is null and outcome holds the reason.
+     *
+     * @param itemId The orb that caused the spawn, or null if it was not spawned from an orb
+     */
+    public record PreparedSpawn(ServerLevel level, Entity entity, String itemId, String pokemonId, int spawnLevel,
+                                Vec3 position, boolean shiny, boolean perfectIVs, SpawnOutcome outcome) {
+        
+        public static PreparedSpawn failed(String itemId, String pokemonId, SpawnOutcome reason) {
+            return new PreparedSpawn(null, null, itemId, pokemonId, 0, null, false, false, reason);
+        }
+        
+        /**
+         * Adds the entity to its level.
+         *
+         * @return SUCCESS if the entity is in the world, otherwise the failure reason
+         */
+        public SpawnOutcome addToLevel() {
+            if (entity == null) {
+                return outcome;
+            }
+            SpawnPhaseEvent phase = SpawnPhaseEvent.start(itemId, pokemonId, "add");
+            SpawnOutcome result = level.addFreshEntity(entity) ? SpawnOutcome.SUCCESS : SpawnOutcome.ENTITY_REJECTED;
+            phase.finish(result.getDisplayName());
+            return result;
+        }
+    }
     
     /**
-     * Spawns a Pokémon near the player with the given settings.
+     * Spawns a Pokémon near the player with the given settings, right away.
+     * Orb uses go through {@link SpawnQueue} instead, which spreads this work over ticks.
      *
      * @param level The world/level
      * @param player The player spawning the Pokémon
@@ -36,166 +71,114 @@ public class PokemonSpawnHandler {
             return false;
         }
         
+        long start = System.nanoTime();
+        Vec3 spawnPos = SpawnPositionResolver.resolve(serverLevel, player, settings.spawnRadius(), OrbRandom.forLevel(serverLevel));
+        PreparedSpawn prepared = spawnPos == null ? PreparedSpawn.failed(null, pokemonId, SpawnOutcome.NO_POSITION)
+            : prepareSpawn(serverLevel, player, null, pokemonId, settings, spawnPos);
+        SpawnOutcome outcome = prepared.addToLevel();
+        OrbMetrics.SPAWN_TIME.record(System.nanoTime() - start);
+        
+        announceSpawn(player, prepared, outcome);
+        return outcome.isSuccess();
+    }
+    
+    /**
+     * Creates the Pokémon entity for a spawn at a position from {@link SpawnPositionResolver},
+     * without adding it to the level.
+     *
+     * @param itemId The orb that caused the spawn, or null if it was not spawned from an orb
+     * @return The prepared spawn, or a failed one if the Pokémon could not be created
+     */
+    public static PreparedSpawn prepareSpawn(ServerLevel serverLevel, Player player, String itemId, String pokemonId,
+            SpawnSettings settings, Vec3 spawnPos) {
         try {
-            // Calculate spawn position
-            Vec3 spawnPos = calculateSpawnPosition(player, settings.spawnRadius());
+            RandomGenerator random = OrbRandom.forLevel(serverLevel);
             
             // Get random level from settings
-            int spawnLevel = settings.getRandomLevel();
+            int spawnLevel = settings.getRandomLevel(random);
             
             // Use reflection to call Cobblemon API to avoid mapping issues
-            boolean success = spawnPokemonViaReflection(serverLevel, spawnPos, pokemonId, spawnLevel, settings);
-            
-            if (success) {
-                String pokemonName = formatPokemonName(pokemonId);
-                if (settings.forceShiny()) {
-                    player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawned_shiny", pokemonName, spawnLevel));
-                } else {
-                    player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawned", pokemonName, spawnLevel));
-                }
-                
-                CobblemonOrbs.LOGGER.info("Player {} spawned {} (Lv. {}) at {}", 
-                    player.getName().getString(), pokemonName, spawnLevel, spawnPos);
-                
-                return true;
-            }
-            
-            player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawn_failed"));
-            return false;
+            return createPokemonEntity(serverLevel, spawnPos, itemId, pokemonId, spawnLevel, settings, random);
             
         } catch (Exception e) {
             CobblemonOrbs.LOGGER.error("Failed to spawn Pokémon: {}", pokemonId, e);
+            return PreparedSpawn.failed(itemId, pokemonId, SpawnOutcome.REFLECTION_ERROR);
+        }
+    }
+    
+    /**
+     * Records the outcome of a spawn, tells the player how it went and passes successful spawns
+     * on to the {@link SpawnBroadcaster} and the {@link SpawnAuditLog}, or the server log if the
+     * audit log is disabled.
+     *
+     * @param prepared The prepared spawn
+     * @param outcome The final outcome, after the entity was added to the level or not
+     */
+    public static void announceSpawn(Player player, PreparedSpawn prepared, SpawnOutcome outcome) {
+        OrbMetrics.recordOutcome(outcome);
+        
+        if (!outcome.isSuccess()) {
             player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawn_failed"));
-            return false;
+            return;
+        }
+        
+        String pokemonName = OrbUtils.formatPokemonName(prepared.pokemonId());
+        if (prepared.shiny()) {
+            player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawned_shiny", pokemonName, prepared.spawnLevel()));
+        } else {
+            player.sendSystemMessage(Component.translatable("message.cobblemonorbs.spawned", pokemonName, prepared.spawnLevel()));
+        }
+        
+        SpawnBroadcaster.onSpawn(player, prepared);
+        
+        if (OrbConfig.AUDIT_LOG.get()) {
+            SpawnAuditLog.record(player.getUUID(), prepared.pokemonId(), prepared.spawnLevel(), prepared.shiny(),
+                prepared.perfectIVs(), prepared.level().dimension(), prepared.position());
+        } else {
+            CobblemonOrbs.LOGGER.info("Player {} spawned {} (Lv. {}) at {}", 
+                player.getName().getString(), pokemonName, prepared.spawnLevel(), prepared.position());
         }
     }
     
     /**
-     * Spawns a Pokémon using reflection to avoid compile-time mapping issues.
+     * Creates a positioned Pokémon entity through the cached {@link CobblemonBridge} handles
+     * and the {@link SpawnPrototype} for the settings.
      */
-    private static boolean spawnPokemonViaReflection(ServerLevel serverLevel, Vec3 spawnPos, 
-            String pokemonId, int level, SpawnSettings settings) {
+    private static PreparedSpawn createPokemonEntity(ServerLevel serverLevel, Vec3 spawnPos, 
+            String itemId, String pokemonId, int level, SpawnSettings settings, RandomGenerator random) {
+        // Each phase is a JFR event; they only cost a few field writes when no recording is active
+        SpawnPhaseEvent phase = SpawnPhaseEvent.start(itemId, pokemonId, "species");
         try {
-            // Get PokemonSpecies class
-            Class<?> pokemonSpeciesClass = Class.forName("com.cobblemon.mod.common.api.pokemon.PokemonSpecies");
-            Object speciesInstance = pokemonSpeciesClass.getField("INSTANCE").get(null);
-            
             // Get the species by name
-            var getByNameMethod = pokemonSpeciesClass.getMethod("getByName", String.class);
-            Object species = getByNameMethod.invoke(speciesInstance, pokemonId.toLowerCase());
+            Object species = SpeciesHandleCache.getSpecies(pokemonId);
             
             if (species == null) {
                 CobblemonOrbs.LOGGER.error("Unknown Pokémon species: {}", pokemonId);
-                return false;
+                phase.finish(SpawnOutcome.UNKNOWN_SPECIES.getDisplayName());
+                return PreparedSpawn.failed(itemId, pokemonId, SpawnOutcome.UNKNOWN_SPECIES);
             }
+            phase.finish(SpawnOutcome.SUCCESS.getDisplayName());
             
-            // Create the Pokemon instance
-            Class<?> speciesClass = Class.forName("com.cobblemon.mod.common.pokemon.Species");
-            var createMethod = speciesClass.getMethod("create", int.class);
-            Object pokemon = createMethod.invoke(species, level);
+            // Create the Pokemon with the settings' shininess and IVs applied
+            phase = SpawnPhaseEvent.start(itemId, pokemonId, "pokemon");
+            SpawnPrototype prototype = SpawnPrototype.of(settings);
+            boolean shiny = prototype.rollShiny(random);
+            Object pokemon = prototype.create(species, level, shiny);
+            phase.finish(shiny ? "shiny" : "normal");
             
-            // Apply shiny status
-            Class<?> pokemonClass = Class.forName("com.cobblemon.mod.common.pokemon.Pokemon");
-            if (settings.forceShiny() || RANDOM.nextDouble() < settings.shinyChance()) {
-                var setShinyMethod = pokemonClass.getMethod("setShiny", boolean.class);
-                setShinyMethod.invoke(pokemon, true);
-            }
-            
-            // Apply perfect IVs if configured
-            if (settings.forcePerfectIVs()) {
-                setPerfectIVsViaReflection(pokemon, pokemonClass);
-            }
-            
-            // Get PokemonEntity class and create instance
-            // Constructor signature: PokemonEntity(Level, Pokemon, EntityType)
-            // We need to use the Level class (parent of ServerLevel) and get the entity type
-            Class<?> pokemonEntityClass = Class.forName("com.cobblemon.mod.common.entity.pokemon.PokemonEntity");
-            Class<?> levelClass = Class.forName("net.minecraft.world.level.Level");
-            Class<?> entityTypeClass = Class.forName("net.minecraft.world.entity.EntityType");
-            
-            // Get CobblemonEntities.POKEMON entity type
-            Class<?> cobblemonEntitiesClass = Class.forName("com.cobblemon.mod.common.CobblemonEntities");
-            Object pokemonEntityType = cobblemonEntitiesClass.getField("POKEMON").get(null);
+            // Create the entity and position it; the caller adds it to the world
+            phase = SpawnPhaseEvent.start(itemId, pokemonId, "entity");
+            Entity pokemonEntity = CobblemonBridge.createEntity(serverLevel, pokemon);
+            pokemonEntity.setPos(spawnPos.x, spawnPos.y, spawnPos.z);
+            phase.finish(SpawnOutcome.SUCCESS.getDisplayName());
             
-            var entityConstructor = pokemonEntityClass.getConstructor(levelClass, pokemonClass, entityTypeClass);
-            Object pokemonEntity = entityConstructor.newInstance(serverLevel, pokemon, pokemonEntityType);
+            return new PreparedSpawn(serverLevel, pokemonEntity, itemId, pokemonId, level, spawnPos, shiny,
+                settings.forcePerfectIVs(), SpawnOutcome.SUCCESS);
             
-            // Set position
-            var setPosMethod = pokemonEntityClass.getMethod("setPos", double.class, double.class, double.class);
-            setPosMethod.invoke(pokemonEntity, spawnPos.x, spawnPos.y, spawnPos.z);
-            
-            // Add to world
-            var addEntityMethod = serverLevel.getClass().getMethod("addFreshEntity", 
-                Class.forName("net.minecraft.world.entity.Entity"));
-            addEntityMethod.invoke(serverLevel, pokemonEntity);
-            
-            return true;
-            
-        } catch (ClassNotFoundException e) {
-            CobblemonOrbs.LOGGER.error("Cobblemon not found! Make sure Cobblemon is installed.", e);
-            return false;
         } catch (Exception e) {
             CobblemonOrbs.LOGGER.error("Error spawning Pokémon via reflection", e);
-            return false;
-        }
-    }
-    
-    /**
-     * Sets all IVs to 31 (perfect) using reflection.
-     */
-    private static void setPerfectIVsViaReflection(Object pokemon, Class<?> pokemonClass) {
-        try {
-            Class<?> statsClass = Class.forName("com.cobblemon.mod.common.api.pokemon.stats.Stats");
-            var setIVMethod = pokemonClass.getMethod("setIV", 
-                Class.forName("com.cobblemon.mod.common.api.pokemon.stats.Stat"), int.class);
-            
-            // Get each stat and set IV to 31
-            String[] statNames = {"HP", "ATTACK", "DEFENCE", "SPECIAL_ATTACK", "SPECIAL_DEFENCE", "SPEED"};
-            for (String statName : statNames) {
-                Object stat = statsClass.getField(statName).get(null);
-                setIVMethod.invoke(pokemon, stat, 31);
-            }
-        } catch (Exception e) {
-            CobblemonOrbs.LOGGER.error("Error setting perfect IVs", e);
+            phase.finish(SpawnOutcome.REFLECTION_ERROR.getDisplayName());
+            return PreparedSpawn.failed(itemId, pokemonId, SpawnOutcome.REFLECTION_ERROR);
         }
     }
-    
-    /**
-     * Formats a Pokémon ID into a display name.
-     */
-    private static String formatPokemonName(String pokemonId) {
-        if (pokemonId == null || pokemonId.isEmpty()) {
-            return pokemonId;
-        }
-        // Capitalize first letter and replace underscores with spaces
-        String formatted = pokemonId.replace("_", " ");
-        return Character.toUpperCase(formatted.charAt(0)) + formatted.substring(1);
-    }
-    
-    /**
-     * Calculates a spawn position around the player within the specified radius.
-     */
-    private static Vec3 calculateSpawnPosition(Player player, int radius) {
-        double angle = RANDOM.nextDouble() * 2 * Math.PI;
-        double distance = RANDOM.nextDouble() * radius + 1;
-        
-        double x = player.getX() + Math.cos(angle) * distance;
-        double z = player.getZ() + Math.sin(angle) * distance;
-        double y = player.getY();
-        
-        // Try to find a safe Y position
-        Level level = player.level();
-        BlockPos checkPos = BlockPos.containing(x, y, z);
-        
-        // Check if the position is valid (not inside a block)
-        for (int i = 0; i < 5; i++) {
-            if (!level.getBlockState(checkPos.above(i)).isSolid() && 
-                !level.getBlockState(checkPos.above(i + 1)).isSolid()) {
-                y = checkPos.getY() + i;
-                break;
-            }
-        }
-        
-        return new Vec3(x, y, z);
-    }
 }
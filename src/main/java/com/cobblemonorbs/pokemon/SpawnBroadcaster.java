@@ -0,0 +1,202 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.OrbConfig;
+import com.cobblemonorbs.util.OrbUtils;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.common.util.FakePlayer;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Tells other players about orb spawns when broadcastSpawns is enabled.
+ *
+ * Spawns are collected for a short window and then sent as one message per player, so a
+ * burst of orb uses reads "5 Pokémon were summoned" instead of five lines. Messages are
+ * also limited to a number of packets per second: a window's messages are queued per player
+ * and sent as the limit allows, over several ticks if needed, while new spawns collect into
+ * the next window. Players only hear about spawns in their scope (all, same dimension or
+ * within range) and never about their own.
+ *
+ * Only used from the server thread.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class SpawnBroadcaster {
+    
+    /**
+     * Which players hear about a spawn.
+     */
+    public enum Scope {
+        ALL,
+        DIMENSION,
+        RANGE
+    }
+    
+    // Species listed by name in a combined message
+    private static final int MAX_NAMES = 5;
+    
+    private record Announcement(UUID playerId, String playerName, String pokemonName, boolean shiny,
+                                ResourceKey<Level> dimension, Vec3 position) {
+    }
+    
+    private record Delivery(UUID playerId, Component message) {
+    }
+    
+    private static final List<Announcement> PENDING = new ArrayList<>();
+    // Messages of the last closed window still waiting for packet budget
+    private static final Queue<Delivery> OUTBOX = new ArrayDeque<>();
+    private static int windowStartTick;
+    private static double packetTokens;
+    
+    private SpawnBroadcaster() {
+    }
+    
+    /**
+     * Adds a successful spawn to the current broadcast window.
+     */
+    public static void onSpawn(Player player, PokemonSpawnHandler.PreparedSpawn prepared) {
+        // Fake players are used by the load test and automation mods
+        if (!OrbConfig.BROADCAST_SPAWNS.get() || player.getServer() == null || player instanceof FakePlayer) {
+            return;
+        }
+        
+        if (PENDING.isEmpty()) {
+            windowStartTick = player.getServer().getTickCount();
+        }
+        PENDING.add(new Announcement(player.getUUID(), player.getName().getString(),
+            OrbUtils.formatPokemonName(prepared.pokemonId()), prepared.shiny(),
+            prepared.level().dimension(), prepared.position()));
+    }
+    
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        int maxPacketsPerSecond = OrbConfig.BROADCAST_MAX_PACKETS_PER_SECOND.get();
+        packetTokens = Math.min(maxPacketsPerSecond, packetTokens + maxPacketsPerSecond / 20.0);
+        
+        MinecraftServer server = event.getServer();
+        if (OUTBOX.isEmpty() && !PENDING.isEmpty()
+                && server.getTickCount() - windowStartTick >= OrbConfig.BROADCAST_WINDOW_TICKS.get()) {
+            closeWindow(server);
+        }
+        
+        send(server);
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        PENDING.clear();
+        OUTBOX.clear();
+    }
+    
+    /**
+     * Sends queued messages while the packet budget lasts; the rest wait for later ticks.
+     */
+    private static void send(MinecraftServer server) {
+        while (packetTokens >= 1 && !OUTBOX.isEmpty()) {
+            Delivery delivery = OUTBOX.poll();
+            ServerPlayer player = server.getPlayerList().getPlayer(delivery.playerId());
+            // Players who left in the meantime cost nothing
+            if (player != null) {
+                player.sendSystemMessage(delivery.message());
+                packetTokens--;
+            }
+        }
+    }
+    
+    /**
+     * Builds the message for every player in scope of the pending spawns, queues them and clears the spawns.
+     */
+    private static void closeWindow(MinecraftServer server) {
+        Scope scope = OrbConfig.BROADCAST_SCOPE.get();
+        double range = OrbConfig.BROADCAST_RANGE.get();
+        double rangeSquared = range * range;
+        
+        // Most players see every spawn, so that message is built once
+        Component everything = null;
+        
+        List<Announcement> visible = new ArrayList<>(PENDING.size());
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            visible.clear();
+            for (Announcement announcement : PENDING) {
+                if (isInScope(player, announcement, scope, rangeSquared)) {
+                    visible.add(announcement);
+                }
+            }
+            if (visible.isEmpty()) {
+                continue;
+            }
+            
+            Component message;
+            if (visible.size() == PENDING.size()) {
+                if (everything == null) {
+                    everything = buildMessage(visible);
+                }
+                message = everything;
+            } else {
+                message = buildMessage(visible);
+            }
+            
+            OUTBOX.add(new Delivery(player.getUUID(), message));
+        }
+        
+        PENDING.clear();
+    }
+    
+    private static boolean isInScope(ServerPlayer player, Announcement announcement, Scope scope, double rangeSquared) {
+        if (player.getUUID().equals(announcement.playerId())) {
+            return false;
+        }
+        
+        return switch (scope) {
+            case ALL -> true;
+            case DIMENSION -> player.level().dimension() == announcement.dimension();
+            case RANGE -> player.level().dimension() == announcement.dimension()
+                && player.position().distanceToSqr(announcement.position()) <= rangeSquared;
+        };
+    }
+    
+    private static Component buildMessage(List<Announcement> announcements) {
+        if (announcements.size() == 1) {
+            Announcement announcement = announcements.get(0);
+            return Component.translatable(announcement.shiny() ? "message.cobblemonorbs.broadcast_shiny"
+                : "message.cobblemonorbs.broadcast", announcement.playerName(), announcement.pokemonName());
+        }
+        
+        // "Mewtwo x2, Mew, ..." in order of first appearance
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Announcement announcement : announcements) {
+            counts.merge(announcement.pokemonName(), 1, Integer::sum);
+        }
+        
+        StringBuilder names = new StringBuilder();
+        int listed = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (listed++ == MAX_NAMES) {
+                names.append(", ...");
+                break;
+            }
+            names.append(names.isEmpty() ? "" : ", ").append(entry.getKey());
+            if (entry.getValue() > 1) {
+                names.append(" x").append(entry.getValue());
+            }
+        }
+        
+        return Component.translatable("message.cobblemonorbs.broadcast_multiple", announcements.size(), names.toString());
+    }
+}
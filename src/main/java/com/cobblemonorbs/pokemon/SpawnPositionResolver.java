@@ -0,0 +1,105 @@
+package com.cobblemonorbs.pokemon;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Finds a place to put a spawned Pokémon without loading chunks.
+ *
+ * A random column within the spawn radius is picked first. The surface of each candidate
+ * column comes from the MOTION_BLOCKING_NO_LEAVES heightmap; if that is far from the
+ * player (caves, overhangs) a short scan around the player's height is used instead.
+ * When the first column does not fit, nearby columns are tried in a square spiral.
+ * Columns in chunks that are not loaded are skipped, never loaded.
+ */
+public final class SpawnPositionResolver {
+    
+    // Columns tried around the random target: (2 * SPIRAL_RADIUS + 1)^2
+    private static final int SPIRAL_RADIUS = 3;
+    // How far above or below the player a spawn may end up
+    private static final int MAX_VERTICAL_OFFSET = 8;
+    
+    private SpawnPositionResolver() {
+    }
+    
+    /**
+     * Finds a safe spawn position around the player within the radius.
+     *
+     * @return The position, or null if no safe position is in a loaded chunk right now
+     */
+    public static Vec3 resolve(ServerLevel level, Player player, int radius, RandomGenerator random) {
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double distance = random.nextDouble() * radius + 1;
+        
+        int targetX = (int) Math.floor(player.getX() + Math.cos(angle) * distance);
+        int targetZ = (int) Math.floor(player.getZ() + Math.sin(angle) * distance);
+        int playerY = (int) Math.floor(player.getY());
+        
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        
+        // Square spiral: ring 0 is the target column itself
+        for (int ring = 0; ring <= SPIRAL_RADIUS; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
+                    
+                    int x = targetX + dx;
+                    int z = targetZ + dz;
+                    int y = findStandingY(level, pos, x, z, playerY);
+                    if (y != Integer.MIN_VALUE) {
+                        return new Vec3(x + 0.5, y, z + 0.5);
+                    }
+                }
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Get the Y a Pokémon can stand at in a column, or Integer.MIN_VALUE if there is none
+     * near the player or the column's chunk is not loaded.
+     */
+    private static int findStandingY(ServerLevel level, BlockPos.MutableBlockPos pos, int x, int z, int playerY) {
+        if (!level.hasChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z))) {
+            return Integer.MIN_VALUE;
+        }
+        
+        // O(1) surface estimate from the heightmap
+        int surfaceY = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
+        if (Math.abs(surfaceY - playerY) <= MAX_VERTICAL_OFFSET && isStandable(level, pos, x, surfaceY, z)) {
+            return surfaceY;
+        }
+        
+        // The surface is out of reach, e.g. the player is underground: scan up from just below the player
+        int minY = Math.max(level.getMinBuildHeight() + 1, playerY - 2);
+        int maxY = Math.min(level.getMaxBuildHeight() - 2, playerY + MAX_VERTICAL_OFFSET);
+        for (int y = minY; y <= maxY; y++) {
+            if (isStandable(level, pos, x, y, z)) {
+                return y;
+            }
+        }
+        
+        return Integer.MIN_VALUE;
+    }
+    
+    /**
+     * Two free blocks at y and y + 1 with solid ground or a fluid below.
+     */
+    private static boolean isStandable(ServerLevel level, BlockPos.MutableBlockPos pos, int x, int y, int z) {
+        if (level.getBlockState(pos.set(x, y, z)).isSolid() || level.getBlockState(pos.set(x, y + 1, z)).isSolid()) {
+            return false;
+        }
+        BlockState ground = level.getBlockState(pos.set(x, y - 1, z));
+        return ground.isSolid() || !ground.getFluidState().isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.item.api.SpawnSettings;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Spawn settings compiled into what a spawn has to do to a freshly created Pokémon.
+ *
+ * Everything the settings fix up front (forced shininess, perfect IVs) is bound into a
+ * single method handle when the prototype is built, so creating a Pokémon is one create
+ * call plus one invoke. Prototypes are built on first use and shared by every orb with
+ * equal settings.
+ */
+public final class SpawnPrototype {
+    
+    private static final Map<SpawnSettings, SpawnPrototype> PROTOTYPES = new ConcurrentHashMap<>();
+    
+    private final boolean forceShiny;
+    private final double shinyChance;
+    // (Pokemon) -> void
+    private final MethodHandle fixedModifiers;
+    
+    private SpawnPrototype(boolean forceShiny, double shinyChance, MethodHandle fixedModifiers) {
+        this.forceShiny = forceShiny;
+        this.shinyChance = shinyChance;
+        this.fixedModifiers = fixedModifiers;
+    }
+    
+    /**
+     * Get the prototype for spawn settings, building it on first use.
+     */
+    public static SpawnPrototype of(SpawnSettings settings) {
+        return PROTOTYPES.computeIfAbsent(settings, key -> new SpawnPrototype(key.forceShiny(), key.shinyChance(),
+            CobblemonBridge.modifiers(key.forceShiny(), key.forcePerfectIVs())));
+    }
+    
+    /**
+     * Rolls whether a spawn is shiny.
+     */
+    public boolean rollShiny(RandomGenerator random) {
+        return forceShiny || random.nextDouble() < shinyChance;
+    }
+    
+    /**
+     * Creates a Pokémon of a species with the fixed modifiers applied.
+     *
+     * @param shiny Result of {@link #rollShiny}
+     */
+    public Object create(Object species, int level, boolean shiny) {
+        Object pokemon = CobblemonBridge.createPokemon(species, level);
+        CobblemonBridge.applyModifiers(fixedModifiers, pokemon);
+        if (shiny && !forceShiny) {
+            CobblemonBridge.setShiny(pokemon, true);
+        }
+        return pokemon;
+    }
+}
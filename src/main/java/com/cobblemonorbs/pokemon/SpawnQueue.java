@@ -0,0 +1,231 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.OrbConfig;
+import com.cobblemonorbs.item.api.SpawnSettings;
+import com.cobblemonorbs.metrics.OrbMetrics;
+import com.cobblemonorbs.metrics.SpawnOutcome;
+import com.cobblemonorbs.util.OrbRandom;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Queue of pending orb spawns, drained at the end of each server tick.
+ *
+ * Orb uses only submit a request; the species lookup, entity creation and IV rolls
+ * happen here within a per-tick count and time budget (see the performance section of
+ * the config), so spam-using a stack of orbs cannot stretch a single tick. Entities
+ * prepared in a tick are added to their levels together, then each request's callback
+ * receives the result.
+ *
+ * The queue is only touched from the server thread.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class SpawnQueue {
+    
+    // Ticks a spawn waits for a loaded, safe position before it fails
+    private static final int MAX_POSITION_ATTEMPTS = 20;
+    
+    private static final ArrayDeque<SpawnRequest> PENDING = new ArrayDeque<>();
+    
+    private static SpawnListener listener;
+    
+    private SpawnQueue() {
+    }
+    
+    /**
+     * Observer for finished spawns, used by the load test.
+     */
+    public interface SpawnListener {
+        
+        /**
+         * Called on the server thread for every spawn that leaves the queue.
+         *
+         * @param workNanos Time spent preparing and adding the entity, 0 if it never got that far
+         * @param addNanos Time spent adding the entity to its level
+         */
+        void onSpawnComplete(Player player, PokemonSpawnHandler.PreparedSpawn prepared, SpawnOutcome outcome,
+                             long workNanos, long addNanos);
+    }
+    
+    /**
+     * Sets the listener for finished spawns, or null to remove it.
+     */
+    public static void setListener(SpawnListener newListener) {
+        listener = newListener;
+    }
+    
+    private record SpawnRequest(ServerLevel level, Player player, String itemId, String pokemonId,
+                                SpawnSettings settings, Consumer<Boolean> callback, long submittedNanos, int attempts) {
+        
+        SpawnRequest retry() {
+            return new SpawnRequest(level, player, itemId, pokemonId, settings, callback, submittedNanos, attempts + 1);
+        }
+    }
+    
+    /**
+     * Queues a spawn for the end of the current tick or a later one.
+     *
+     * @param itemId The orb that caused the spawn, recorded in its JFR events
+     * @param callback Receives true once the Pokémon is in the world, false if the spawn failed
+     * @return false if the queue is full and the request was not accepted
+     */
+    public static boolean submit(ServerLevel level, Player player, String itemId, String pokemonId,
+            SpawnSettings settings, Consumer<Boolean> callback) {
+        if (PENDING.size() >= OrbConfig.SPAWN_QUEUE_CAPACITY.get()) {
+            OrbMetrics.recordOutcome(SpawnOutcome.QUEUE_FULL);
+            return false;
+        }
+        
+        PENDING.add(new SpawnRequest(level, player, itemId, pokemonId, settings, callback, System.nanoTime(), 0));
+        return true;
+    }
+    
+    /**
+     * Get the number of spawns waiting in the queue.
+     */
+    public static int size() {
+        return PENDING.size();
+    }
+    
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        
+        int maxSpawns = OrbConfig.MAX_SPAWNS_PER_TICK.get();
+        long deadline = System.nanoTime() + OrbConfig.SPAWN_TICK_BUDGET_MICROS.get() * 1000L;
+        
+        int capacity = Math.min(maxSpawns, PENDING.size());
+        List<SpawnRequest> requests = new ArrayList<>(capacity);
+        List<PokemonSpawnHandler.PreparedSpawn> prepared = new ArrayList<>(capacity);
+        long[] workNanos = new long[capacity];
+        List<SpawnRequest> deferred = new ArrayList<>();
+        
+        // Prepare entities until the count or time budget runs out
+        int processed = 0;
+        while (!PENDING.isEmpty() && processed++ < maxSpawns) {
+            SpawnRequest request = PENDING.poll();
+            long start = System.nanoTime();
+            PokemonSpawnHandler.PreparedSpawn spawn = null;
+            
+            if (request.player().isRemoved()) {
+                spawn = PokemonSpawnHandler.PreparedSpawn.failed(request.itemId(), request.pokemonId(),
+                    SpawnOutcome.PLAYER_LEFT);
+            } else {
+                Vec3 spawnPos = SpawnPositionResolver.resolve(request.level(), request.player(),
+                    request.settings().spawnRadius(), OrbRandom.forLevel(request.level()));
+                
+                if (spawnPos != null) {
+                    spawn = PokemonSpawnHandler.prepareSpawn(request.level(), request.player(), request.itemId(),
+                        request.pokemonId(), request.settings(), spawnPos);
+                } else if (request.attempts() + 1 < MAX_POSITION_ATTEMPTS) {
+                    // Nothing loaded and safe nearby yet, try again next tick instead of loading chunks
+                    deferred.add(request.retry());
+                } else {
+                    spawn = PokemonSpawnHandler.PreparedSpawn.failed(request.itemId(), request.pokemonId(),
+                        SpawnOutcome.NO_POSITION);
+                }
+            }
+            
+            long end = System.nanoTime();
+            if (spawn != null) {
+                workNanos[requests.size()] = end - start;
+                requests.add(request);
+                prepared.add(spawn);
+            }
+            if (end >= deadline) {
+                break;
+            }
+        }
+        PENDING.addAll(deferred);
+        
+        // Add the whole batch to the world, then report back
+        SpawnOutcome[] outcomes = new SpawnOutcome[requests.size()];
+        long[] addNanos = new long[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            long start = System.nanoTime();
+            outcomes[i] = prepared.get(i).addToLevel();
+            addNanos[i] = System.nanoTime() - start;
+            workNanos[i] += addNanos[i];
+        }
+        
+        long now = System.nanoTime();
+        for (int i = 0; i < requests.size(); i++) {
+            SpawnRequest request = requests.get(i);
+            OrbMetrics.SPAWN_TIME.record(workNanos[i]);
+            OrbMetrics.QUEUE_WAIT.record(now - request.submittedNanos());
+            complete(request, prepared.get(i), outcomes[i], workNanos[i], addNanos[i]);
+        }
+    }
+    
+    /**
+     * Fails the pending spawns of a player who leaves, so refunds land before their data is saved.
+     */
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        failAll(event.getEntity(), SpawnOutcome.PLAYER_LEFT);
+    }
+    
+    /**
+     * Cancels the pending spawns of a player; their callbacks and the listener receive the failure.
+     *
+     * @return The number of spawns cancelled
+     */
+    public static int cancel(Player player) {
+        return failAll(player, SpawnOutcome.CANCELLED);
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        while (!PENDING.isEmpty()) {
+            fail(PENDING.poll(), SpawnOutcome.CANCELLED);
+        }
+    }
+    
+    private static int failAll(Player player, SpawnOutcome reason) {
+        int failed = 0;
+        Iterator<SpawnRequest> iterator = PENDING.iterator();
+        while (iterator.hasNext()) {
+            SpawnRequest request = iterator.next();
+            if (request.player() == player) {
+                iterator.remove();
+                fail(request, reason);
+                failed++;
+            }
+        }
+        return failed;
+    }
+    
+    private static void fail(SpawnRequest request, SpawnOutcome reason) {
+        complete(request, PokemonSpawnHandler.PreparedSpawn.failed(request.itemId(), request.pokemonId(), reason),
+            reason, 0, 0);
+    }
+    
+    private static void complete(SpawnRequest request, PokemonSpawnHandler.PreparedSpawn prepared, SpawnOutcome outcome,
+            long workNanos, long addNanos) {
+        try {
+            PokemonSpawnHandler.announceSpawn(request.player(), prepared, outcome);
+            request.callback().accept(outcome.isSuccess());
+            if (listener != null) {
+                listener.onSpawnComplete(request.player(), prepared, outcome, workNanos, addNanos);
+            }
+        } catch (Exception e) {
+            CobblemonOrbs.LOGGER.error("Failed to complete spawn of {} for {}", request.pokemonId(),
+                request.player().getName().getString(), e);
+        }
+    }
+}
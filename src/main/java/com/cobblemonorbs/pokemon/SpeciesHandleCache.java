@@ -0,0 +1,99 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.data.SpeciesCatalog;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Cobblemon Species objects for the catalog species, by catalog index.
+ *
+ * Each species is looked up by name once and then served from an array, so a spawn
+ * does not allocate a lowercase name or search Cobblemon's registry. The cache is
+ * dropped by {@link SpeciesValidator} whenever server data is (re)loaded, because Cobblemon
+ * replaces its species on /reload, and whenever the species catalog changes.
+ */
+public final class SpeciesHandleCache {
+    
+    // Marks a slot whose species Cobblemon does not know, so it is not looked up again
+    private static final Object MISSING = new Object();
+    
+    private record Handles(SpeciesCatalog catalog, Object[] species) {
+    }
+    
+    private static volatile Handles handles;
+    
+    private SpeciesHandleCache() {
+    }
+    
+    /**
+     * Get the Cobblemon Species for a species ID.
+     * Species outside the catalog are looked up by name every time.
+     *
+     * @return The Species instance, or null if Cobblemon does not know the species
+     */
+    public static Object getSpecies(String pokemonId) {
+        Handles current = current();
+        int index = current.catalog().indexOf(pokemonId);
+        if (index < 0) {
+            return CobblemonBridge.getSpecies(pokemonId.toLowerCase(Locale.ROOT));
+        }
+        return resolve(current, index);
+    }
+    
+    /**
+     * Get the Cobblemon Species for a catalog index.
+     *
+     * @return The Species instance, or null if Cobblemon does not know the species
+     */
+    public static Object getSpecies(int index) {
+        return resolve(current(), index);
+    }
+    
+    /**
+     * Resolves every catalog species in parallel.
+     *
+     * @return The catalog indexes of the species Cobblemon does not know
+     */
+    public static BitSet resolveAll() {
+        Handles current = current();
+        int[] missing = IntStream.range(0, current.species().length).parallel()
+            .filter(index -> resolve(current, index) == null)
+            .toArray();
+        
+        BitSet unresolved = new BitSet(current.species().length);
+        for (int index : missing) {
+            unresolved.set(index);
+        }
+        return unresolved;
+    }
+    
+    /**
+     * Drops every resolved species; they are looked up again on next use.
+     */
+    public static void invalidate() {
+        handles = null;
+    }
+    
+    private static Handles current() {
+        SpeciesCatalog catalog = PokemonDataManager.getCatalog();
+        Handles current = handles;
+        if (current == null || current.catalog() != catalog) {
+            current = new Handles(catalog, new Object[catalog.size()]);
+            handles = current;
+        }
+        return current;
+    }
+    
+    private static Object resolve(Handles current, int index) {
+        Object species = current.species()[index];
+        if (species == null) {
+            species = CobblemonBridge.getSpecies(current.catalog().idAt(index).toLowerCase(Locale.ROOT));
+            // Racing threads resolve the same object, so a plain write is enough
+            current.species()[index] = species != null ? species : MISSING;
+        }
+        return species == MISSING ? null : species;
+    }
+}
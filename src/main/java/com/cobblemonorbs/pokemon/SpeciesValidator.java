@@ -0,0 +1,172 @@
+package com.cobblemonorbs.pokemon;
+
+import com.cobblemonorbs.CobblemonOrbs;
+import com.cobblemonorbs.config.ConfigFileManager;
+import com.cobblemonorbs.config.ItemConfigSnapshot;
+import com.cobblemonorbs.data.PokemonDataManager;
+import com.cobblemonorbs.data.SpeciesCatalog;
+import com.cobblemonorbs.item.impl.SpecificPokemonOrb;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks every orb species against the installed Cobblemon once the server has started,
+ * and again after each /reload.
+ *
+ * All catalog species are resolved in parallel, then every orb item and item config is
+ * checked against the result and one summary is logged. Species Cobblemon does not know
+ * are kept in a bit set by catalog index, so orbs for them are rejected on use before any
+ * Cobblemon call, and random orbs leave them out of their pool.
+ */
+@EventBusSubscriber(modid = CobblemonOrbs.MOD_ID)
+public final class SpeciesValidator {
+    
+    private static final BitSet NONE = new BitSet();
+    
+    /**
+     * Result of a validation pass.
+     *
+     * @param unresolved Catalog indexes of the unresolved species
+     * @param unresolvedOther Lowercase IDs of unresolved species that orbs use but the catalog does not list
+     */
+    private record Report(SpeciesCatalog catalog, BitSet unresolved, Set<String> unresolvedOther) {
+    }
+    
+    private static volatile Report report;
+    private static volatile boolean serverStarted;
+    
+    private SpeciesValidator() {
+    }
+    
+    /**
+     * Whether a species can be spawned. True until the first validation has run.
+     */
+    public static boolean isSpawnable(String pokemonId) {
+        Report current = report;
+        if (current == null || current.catalog() != PokemonDataManager.getCatalog()) {
+            return true;
+        }
+        
+        int index = current.catalog().indexOf(pokemonId);
+        if (index >= 0) {
+            return !current.unresolved().get(index);
+        }
+        return current.unresolvedOther().isEmpty()
+            || !current.unresolvedOther().contains(pokemonId.toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * Get the catalog indexes of the species that could not be resolved.
+     * Returns an empty set if the last validation was for a different catalog. Do not modify.
+     */
+    public static BitSet getUnresolved(SpeciesCatalog catalog) {
+        Report current = report;
+        return current != null && current.catalog() == catalog ? current.unresolved() : NONE;
+    }
+    
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        serverStarted = true;
+        validate();
+    }
+    
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Server data was (re)loaded, Cobblemon's species may have changed. The only handler that
+        // drops the species handles, so validating re-resolves them before anything can drop them again
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            SpeciesHandleCache.invalidate();
+            if (serverStarted) {
+                validate();
+            }
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        serverStarted = false;
+        report = null;
+    }
+    
+    private static void validate() {
+        long start = System.nanoTime();
+        SpeciesCatalog catalog = PokemonDataManager.getCatalog();
+        
+        BitSet unresolved;
+        try {
+            unresolved = SpeciesHandleCache.resolveAll();
+        } catch (Exception e) {
+            CobblemonOrbs.LOGGER.error("Failed to validate orb species against Cobblemon", e);
+            return;
+        }
+        
+        // Orb items, including any whose species is not in the catalog
+        Set<String> unresolvedOther = new HashSet<>();
+        List<String> disabledOrbs = new ArrayList<>();
+        Set<String> modItemIds = new HashSet<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            ResourceLocation key = BuiltInRegistries.ITEM.getKey(item);
+            if (!key.getNamespace().equals(CobblemonOrbs.MOD_ID)) {
+                continue;
+            }
+            modItemIds.add(key.getPath());
+            
+            if (item instanceof SpecificPokemonOrb orb) {
+                String pokemonId = orb.getPokemonIdentifier();
+                int index = catalog.indexOf(pokemonId);
+                boolean missing = index >= 0 ? unresolved.get(index) : SpeciesHandleCache.getSpecies(pokemonId) == null;
+                if (missing) {
+                    disabledOrbs.add(key.getPath());
+                    if (index < 0) {
+                        unresolvedOther.add(pokemonId.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        
+        // Item configs for items that do not exist, and weights for species that do not
+        ItemConfigSnapshot configs = ConfigFileManager.getItemConfigs();
+        List<String> unknownConfigs = new ArrayList<>();
+        List<String> unknownWeights = new ArrayList<>();
+        for (String itemId : configs.itemIds()) {
+            if (!modItemIds.contains(itemId)) {
+                unknownConfigs.add(itemId);
+            }
+            for (String speciesId : configs.get(itemId).weights().keySet()) {
+                int index = catalog.indexOf(speciesId);
+                if (index < 0 || unresolved.get(index)) {
+                    unknownWeights.add(itemId + ":" + speciesId);
+                }
+            }
+        }
+        
+        report = new Report(catalog, unresolved, Set.copyOf(unresolvedOther));
+        
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (unresolved.isEmpty() && disabledOrbs.isEmpty() && unknownConfigs.isEmpty() && unknownWeights.isEmpty()) {
+            CobblemonOrbs.LOGGER.info("Validated {} species and {} items against Cobblemon in {} ms, all resolved",
+                catalog.size(), modItemIds.size(), millis);
+            return;
+        }
+        
+        List<String> unresolvedIds = new ArrayList<>();
+        unresolved.stream().forEach(index -> unresolvedIds.add(catalog.idAt(index)));
+        CobblemonOrbs.LOGGER.warn("Validated {} species and {} items against Cobblemon in {} ms: "
+                + "unresolved species {}, disabled orbs {}, configs for unknown items {}, weights for unknown species {}",
+            catalog.size(), modItemIds.size(), millis, unresolvedIds, disabledOrbs, unknownConfigs, unknownWeights);
+    }
+}
@@ -0,0 +1,98 @@
+package com.cobblemonorbs.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted sampler using Vose's alias method.
+ * Building the table is O(n); every draw afterwards is O(1) with one random
+ * int and one random double, regardless of the number of outcomes.
+ */
+public final class AliasSampler {
+    
+    private final double[] probability;
+    private final int[] alias;
+    
+    private AliasSampler(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+    
+    /**
+     * Builds a sampler over the outcomes 0 to weights.length - 1.
+     * Weights do not need to be normalized; outcomes with weight 0 are never drawn.
+     *
+     * @throws IllegalArgumentException if a weight is negative or not finite, or no weight is positive
+     */
+    public static AliasSampler of(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        
+        // Scale so the average weight is 1, then pair each small column with a large one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            
+            probability[less] = scaled[less];
+            alias[less] = more;
+            
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+        
+        return new AliasSampler(probability, alias);
+    }
+    
+    /**
+     * Draws one outcome.
+     */
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+    
+    /**
+     * Get the number of outcomes.
+     */
+    public int size() {
+        return probability.length;
+    }
+}
@@ -0,0 +1,61 @@
+package com.cobblemonorbs.util;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random number source for orb rolls (species, level, shininess, position).
+ *
+ * By default every thread draws from its own generator, so concurrent rolls never
+ * contend on a shared seed the way a static java.util.Random does. When a random seed
+ * is configured, rolls on the server thread come from one SplittableRandom per
+ * dimension seeded from it instead, which makes test runs reproducible.
+ */
+public final class OrbRandom {
+    
+    // Seeded generators by dimension, only touched from the server thread
+    private static final Map<ResourceKey<Level>, SplittableRandom> SEEDED = new ConcurrentHashMap<>();
+    
+    private static volatile long seed;
+    
+    private OrbRandom() {
+    }
+    
+    /**
+     * Get the generator of the calling thread.
+     */
+    public static RandomGenerator current() {
+        return ThreadLocalRandom.current();
+    }
+    
+    /**
+     * Get the generator for rolls in a level.
+     * Returns the seeded generator of the dimension when a seed is set and the caller is
+     * on the server thread, otherwise the generator of the calling thread.
+     */
+    public static RandomGenerator forLevel(Level level) {
+        long currentSeed = seed;
+        if (currentSeed == 0 || !(level instanceof ServerLevel serverLevel) || !serverLevel.getServer().isSameThread()) {
+            return current();
+        }
+        
+        return SEEDED.computeIfAbsent(level.dimension(),
+            dimension -> new SplittableRandom(currentSeed ^ dimension.location().hashCode()));
+    }
+    
+    /**
+     * Drop all seeded generators and use a new seed; 0 disables seeding.
+     * Called on server start so every run starts from the same sequence.
+     */
+    public static void reset(long newSeed) {
+        SEEDED.clear();
+        seed = newSeed;
+    }
+}